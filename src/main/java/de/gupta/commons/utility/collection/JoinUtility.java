@@ -0,0 +1,192 @@
+package de.gupta.commons.utility.collection;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class JoinUtility
+{
+	private static final int PARALLEL_THRESHOLD = 1 << 14;
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	public static String join(final Collection<? extends CharSequence> items, final String delimiter)
+	{
+		validate(items, delimiter);
+
+		final StringBuilder result = new StringBuilder(joinedLength(items, delimiter));
+		boolean first = true;
+		for (final CharSequence item : items)
+		{
+			if (!first)
+			{
+				result.append(delimiter);
+			}
+			result.append(item);
+			first = false;
+		}
+		return result.toString();
+	}
+
+	public static String joinWithComma(final Collection<? extends CharSequence> items)
+	{
+		return join(items, ",");
+	}
+
+	public static int joinedLength(final Collection<? extends CharSequence> items, final String delimiter)
+	{
+		validate(items, delimiter);
+
+		long length = items.isEmpty() ? 0 : (long) delimiter.length() * (items.size() - 1);
+		for (final CharSequence item : items)
+		{
+			if (item == null)
+			{
+				throw new IllegalArgumentException("Items cannot contain null");
+			}
+			length += item.length();
+		}
+		return Math.toIntExact(length);
+	}
+
+	public static void joinTo(final Iterable<? extends CharSequence> items, final String delimiter,
+							  final Appendable target) throws IOException
+	{
+		if (items == null || delimiter == null || target == null)
+		{
+			throw new IllegalArgumentException("Items, delimiter and target cannot be null");
+		}
+
+		boolean first = true;
+		for (final CharSequence item : items)
+		{
+			if (item == null)
+			{
+				throw new IllegalArgumentException("Items cannot contain null");
+			}
+			if (!first)
+			{
+				target.append(delimiter);
+			}
+			target.append(item);
+			first = false;
+		}
+	}
+
+	public static void joinTo(final Iterable<? extends CharSequence> items, final String delimiter,
+							  final WritableByteChannel channel, final Charset charset) throws IOException
+	{
+		if (channel == null || charset == null)
+		{
+			throw new IllegalArgumentException("Channel and charset cannot be null");
+		}
+
+		// The writer encodes through a fixed-size buffer; it is flushed but not closed, so the channel stays open
+		final Writer writer = Channels.newWriter(channel, charset.newEncoder(), -1);
+		joinTo(items, delimiter, writer);
+		writer.flush();
+	}
+
+	public static String parallelJoin(final List<? extends CharSequence> items, final String delimiter)
+	{
+		validate(items, delimiter);
+		if (items.size() < PARALLEL_THRESHOLD)
+		{
+			return join(items, delimiter);
+		}
+
+		final int size = items.size();
+		final int targetChunks = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+		final int chunkSize = (size + targetChunks - 1) / targetChunks;
+		final int chunkCount = (size + chunkSize - 1) / chunkSize;
+
+		// First pass sizes every chunk in parallel, so each chunk knows where its output starts
+		final long[] chunkLengths = IntStream.range(0, chunkCount)
+											 .parallel()
+											 .mapToLong(chunk -> chunkLength(items, delimiter, chunk * chunkSize,
+													 Math.min(size, (chunk + 1) * chunkSize)))
+											 .toArray();
+		final long[] offsets = new long[chunkCount + 1];
+		for (int chunk = 0; chunk < chunkCount; chunk++)
+		{
+			offsets[chunk + 1] = offsets[chunk] + chunkLengths[chunk] + (chunk > 0 ? delimiter.length() : 0);
+		}
+
+		// Second pass copies every chunk straight into its slice of one shared buffer
+		final char[] buffer = new char[Math.toIntExact(offsets[chunkCount])];
+		IntStream.range(0, chunkCount)
+				 .parallel()
+				 .forEach(chunk -> fillChunk(items, delimiter, chunk * chunkSize,
+						 Math.min(size, (chunk + 1) * chunkSize), buffer, Math.toIntExact(offsets[chunk]), chunk > 0));
+		return new String(buffer);
+	}
+
+	private static long chunkLength(final List<? extends CharSequence> items, final String delimiter, final int from,
+									final int to)
+	{
+		long length = (long) delimiter.length() * Math.max(0, to - from - 1);
+		for (int i = from; i < to; i++)
+		{
+			final CharSequence item = items.get(i);
+			if (item == null)
+			{
+				throw new IllegalArgumentException("Items cannot contain null");
+			}
+			length += item.length();
+		}
+		return length;
+	}
+
+	private static void fillChunk(final List<? extends CharSequence> items, final String delimiter, final int from,
+								  final int to, final char[] buffer, final int offset, final boolean leadingDelimiter)
+	{
+		int position = offset;
+		for (int i = from; i < to; i++)
+		{
+			if (i > from || leadingDelimiter)
+			{
+				delimiter.getChars(0, delimiter.length(), buffer, position);
+				position += delimiter.length();
+			}
+			position = copy(items.get(i), buffer, position);
+		}
+	}
+
+	private static int copy(final CharSequence item, final char[] buffer, final int position)
+	{
+		final int length = item.length();
+		if (item instanceof String string)
+		{
+			string.getChars(0, length, buffer, position);
+		}
+		else
+		{
+			for (int i = 0; i < length; i++)
+			{
+				buffer[position + i] = item.charAt(i);
+			}
+		}
+		return position + length;
+	}
+
+	private static void validate(final Collection<? extends CharSequence> items, final String delimiter)
+	{
+		if (items == null)
+		{
+			throw new IllegalArgumentException("Input collection cannot be null");
+		}
+		if (delimiter == null)
+		{
+			throw new IllegalArgumentException("Delimiter cannot be null");
+		}
+	}
+
+	private JoinUtility()
+	{
+	}
+}
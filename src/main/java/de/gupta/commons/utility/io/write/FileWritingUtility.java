@@ -2,6 +2,11 @@ package de.gupta.commons.utility.io.write;
 
 import de.gupta.commons.utility.io.read.FileReaderUtility;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -32,6 +37,14 @@ public final class FileWritingUtility
 			boolean overwriteExisting = Arrays.asList(options).contains(WriteOption.OVERWRITE_EXISTING);
 			boolean createDirectories = Arrays.asList(options).contains(WriteOption.CREATE_DIRECTORIES);
 			boolean merge = Arrays.asList(options).contains(WriteOption.MERGE);
+			boolean skipUnchanged = Arrays.asList(options).contains(WriteOption.SKIP_UNCHANGED) && !merge;
+			boolean parentExists = Arrays.asList(options).contains(WriteOption.PARENT_EXISTS);
+
+			byte[] bytes = skipUnchanged ? encode(content) : null;
+			if (skipUnchanged && hasContent(filePath, bytes))
+			{
+				return new WriteResult.Unchanged(filePath);
+			}
 
 			if (Files.exists(filePath) && !overwriteExisting && !merge)
 			{
@@ -39,7 +52,7 @@ public final class FileWritingUtility
 			}
 
 			Path parent = filePath.getParent();
-			if (parent != null && !FileReaderUtility.pathExists(parent))
+			if (!parentExists && parent != null && !FileReaderUtility.pathExists(parent))
 			{
 				if (createDirectories)
 				{
@@ -56,6 +69,10 @@ public final class FileWritingUtility
 				String existingContent = Files.readString(filePath);
 				Files.writeString(filePath, existingContent + content);
 			}
+			else if (skipUnchanged)
+			{
+				Files.write(filePath, bytes);
+			}
 			else
 			{
 				Files.writeString(filePath, content);
@@ -91,6 +108,30 @@ public final class FileWritingUtility
 		return writeFile(filePath, content, WriteOption.MERGE);
 	}
 
+	// Leaves the file and its modification time alone when it already holds the content, so tools watching the output
+	// only see files that really changed
+	public static WriteResult writeFileIfChanged(final Path filePath, final String content)
+	{
+		return writeFile(filePath, content, WriteOption.OVERWRITE_EXISTING, WriteOption.CREATE_DIRECTORIES,
+				WriteOption.SKIP_UNCHANGED);
+	}
+
+	// Encodes the way Files.writeString does, failing on malformed input instead of replacing it
+	private static byte[] encode(final String content) throws CharacterCodingException
+	{
+		final ByteBuffer buffer = StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(content));
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	// The size is compared first, so most changed files are told apart without being read
+	private static boolean hasContent(final Path filePath, final byte[] bytes) throws IOException
+	{
+		return Files.isRegularFile(filePath) && Files.size(filePath) == bytes.length
+				&& Arrays.equals(Files.readAllBytes(filePath), bytes);
+	}
+
 	private FileWritingUtility()
 	{
 	}
@@ -101,6 +142,10 @@ public final class FileWritingUtility
 		{
 		}
 
+		record Unchanged(Path path) implements WriteResult
+		{
+		}
+
 		record FileAlreadyExists(Path path) implements WriteResult
 		{
 		}
@@ -118,6 +163,10 @@ public final class FileWritingUtility
 	{
 		OVERWRITE_EXISTING,
 		CREATE_DIRECTORIES,
-		MERGE
+		MERGE,
+		// Ignored together with MERGE, which always changes an existing file
+		SKIP_UNCHANGED,
+		// The caller has created the parent directory, so it is not checked again; a missing one ends in an Error
+		PARENT_EXISTS
 	}
 }
\ No newline at end of file
@@ -0,0 +1,384 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import de.gupta.commons.utility.string.CharacterClassUtility;
+import de.gupta.commons.utility.string.CharacterClassUtility.CharacterClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JavaLexer
+{
+	private static final String SEPARATORS = "(){}[];,.@";
+
+	// A perfect hash: the multipliers were chosen so that no two keywords share a slot, and each lookup compares
+	// against at most one keyword
+	private static final int KEYWORD_TABLE_SIZE = 256;
+	private static final String[] KEYWORD_TABLE = keywordTable(
+			"abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+			"default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "goto", "if",
+			"implements", "import", "instanceof", "int", "interface", "long", "native", "new", "package", "private",
+			"protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+			"throw", "throws", "transient", "try", "void", "volatile", "while", "true", "false", "null", "_"
+	);
+
+	private final CharSequence source;
+	private final int length;
+	private final boolean nestedComments;
+
+	private int position;
+	private TokenKind kind;
+	private int start;
+	private int end;
+
+	public static JavaLexer of(final CharSequence source)
+	{
+		return new JavaLexer(source, false);
+	}
+
+	// Block comments nest, as CommentManager has always treated them: "/* a /* b */ c */" is one comment
+	public static JavaLexer withNestedComments(final CharSequence source)
+	{
+		return new JavaLexer(source, true);
+	}
+
+	public static List<Token> tokenize(final CharSequence source)
+	{
+		final JavaLexer lexer = of(source);
+		final List<Token> tokens = new ArrayList<>();
+		while (lexer.next())
+		{
+			tokens.add(lexer.token());
+		}
+		return tokens;
+	}
+
+	public static boolean isKeyword(final CharSequence text, final int start, final int end)
+	{
+		if (end <= start)
+		{
+			return false;
+		}
+
+		final String keyword = KEYWORD_TABLE[keywordHash(text, start, end)];
+		return keyword != null && keyword.length() == end - start && regionEquals(text, start, keyword);
+	}
+
+	public boolean next()
+	{
+		if (position >= length)
+		{
+			kind = null;
+			start = end = length;
+			return false;
+		}
+
+		start = position;
+		final char c = source.charAt(position);
+		final char next = charAt(position + 1);
+
+		if (c == '\n' || c == '\r')
+		{
+			position += (c == '\r' && next == '\n') ? 2 : 1;
+			kind = TokenKind.LINE_TERMINATOR;
+		}
+		else if (CharacterClassUtility.isWhitespace(c))
+		{
+			scanWhitespace();
+		}
+		else if (c == '/' && next == '/')
+		{
+			scanLineComment();
+		}
+		else if (c == '/' && next == '*')
+		{
+			scanBlockComment();
+		}
+		else if (c == '"' && next == '"' && charAt(position + 2) == '"')
+		{
+			scanTextBlock();
+		}
+		else if (c == '"' || c == '\'')
+		{
+			scanQuoted(c);
+		}
+		else if (CharacterClassUtility.is(c, CharacterClass.IDENTIFIER_START))
+		{
+			scanIdentifier();
+		}
+		else if (CharacterClassUtility.isDigit(c) || (c == '.' && CharacterClassUtility.isDigit(next)))
+		{
+			scanNumber();
+		}
+		else
+		{
+			position++;
+			kind = SEPARATORS.indexOf(c) >= 0 ? TokenKind.SEPARATOR : TokenKind.OPERATOR;
+		}
+
+		end = position;
+		return true;
+	}
+
+	public TokenKind kind()
+	{
+		return kind;
+	}
+
+	public int start()
+	{
+		return start;
+	}
+
+	public int end()
+	{
+		return end;
+	}
+
+	public Token token()
+	{
+		return new Token(kind, start, end);
+	}
+
+	public String text()
+	{
+		return source.subSequence(start, end).toString();
+	}
+
+	public boolean textEquals(final String text)
+	{
+		return end - start == text.length() && regionEquals(source, start, text);
+	}
+
+	public boolean isSignificant()
+	{
+		return kind != null && kind.isSignificant();
+	}
+
+	// Advances to the next token that is not whitespace, a line terminator or a comment
+	public boolean nextSignificant()
+	{
+		while (next())
+		{
+			if (kind.isSignificant())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void scanWhitespace()
+	{
+		while (position < length)
+		{
+			final char c = source.charAt(position);
+			if (c == '\n' || c == '\r' || !CharacterClassUtility.isWhitespace(c))
+			{
+				break;
+			}
+			position++;
+		}
+		kind = TokenKind.WHITESPACE;
+	}
+
+	private void scanLineComment()
+	{
+		position += 2;
+		while (position < length && source.charAt(position) != '\n' && source.charAt(position) != '\r')
+		{
+			position++;
+		}
+		kind = TokenKind.LINE_COMMENT;
+	}
+
+	private void scanBlockComment()
+	{
+		position += 2;
+		int depth = 1;
+		while (position < length && depth > 0)
+		{
+			final char c = source.charAt(position);
+			final char next = charAt(position + 1);
+			if (c == '*' && next == '/')
+			{
+				depth--;
+				position += 2;
+			}
+			else if (nestedComments && c == '/' && next == '*')
+			{
+				depth++;
+				position += 2;
+			}
+			else
+			{
+				position++;
+			}
+		}
+		kind = TokenKind.BLOCK_COMMENT;
+	}
+
+	private void scanTextBlock()
+	{
+		position += 3;
+		while (position < length)
+		{
+			final char c = source.charAt(position);
+			if (c == '\\')
+			{
+				position += 2;
+			}
+			else if (c == '"' && charAt(position + 1) == '"' && charAt(position + 2) == '"')
+			{
+				position += 3;
+				break;
+			}
+			else
+			{
+				position++;
+			}
+		}
+		position = Math.min(position, length);
+		kind = TokenKind.TEXT_BLOCK;
+	}
+
+	// An unterminated literal stops at the end of its line, so one stray quote cannot swallow the whole file
+	private void scanQuoted(final char quote)
+	{
+		position++;
+		while (position < length)
+		{
+			final char c = source.charAt(position);
+			if (c == '\\')
+			{
+				position += 2;
+			}
+			else if (c == quote)
+			{
+				position++;
+				break;
+			}
+			else if (c == '\n' || c == '\r')
+			{
+				break;
+			}
+			else
+			{
+				position++;
+			}
+		}
+		position = Math.min(position, length);
+		kind = quote == '"' ? TokenKind.STRING : TokenKind.CHARACTER;
+	}
+
+	private void scanIdentifier()
+	{
+		position++;
+		while (position < length && CharacterClassUtility.is(source.charAt(position), CharacterClass.IDENTIFIER_PART))
+		{
+			position++;
+		}
+		kind = isKeyword(source, start, position) ? TokenKind.KEYWORD : TokenKind.IDENTIFIER;
+	}
+
+	private void scanNumber()
+	{
+		position++;
+		while (position < length)
+		{
+			final char c = source.charAt(position);
+			final char previous = source.charAt(position - 1);
+			final boolean exponentSign = (c == '+' || c == '-')
+					&& (previous == 'e' || previous == 'E' || previous == 'p' || previous == 'P');
+			if (!exponentSign && c != '.' && !CharacterClassUtility.is(c, CharacterClass.IDENTIFIER_PART))
+			{
+				break;
+			}
+			position++;
+		}
+		kind = TokenKind.NUMBER;
+	}
+
+	private char charAt(final int index)
+	{
+		return index < length ? source.charAt(index) : '\0';
+	}
+
+	private static boolean regionEquals(final CharSequence text, final int start, final String expected)
+	{
+		for (int i = 0; i < expected.length(); i++)
+		{
+			if (text.charAt(start + i) != expected.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int keywordHash(final CharSequence text, final int start, final int end)
+	{
+		final int length = end - start;
+		final char second = length > 1 ? text.charAt(start + 1) : 0;
+		return (text.charAt(start) * 7 + text.charAt(end - 1) * 23 + second + length) & (KEYWORD_TABLE_SIZE - 1);
+	}
+
+	private static String[] keywordTable(final String... keywords)
+	{
+		final String[] table = new String[KEYWORD_TABLE_SIZE];
+		for (final String keyword : keywords)
+		{
+			final int slot = keywordHash(keyword, 0, keyword.length());
+			if (table[slot] != null)
+			{
+				throw new IllegalStateException("Keywords " + table[slot] + " and " + keyword + " share a hash slot");
+			}
+			table[slot] = keyword;
+		}
+		return table;
+	}
+
+	private JavaLexer(final CharSequence source, final boolean nestedComments)
+	{
+		if (source == null)
+		{
+			throw new IllegalArgumentException("Source cannot be null");
+		}
+		this.source = source;
+		this.length = source.length();
+		this.nestedComments = nestedComments;
+	}
+
+	public enum TokenKind
+	{
+		WHITESPACE,
+		LINE_TERMINATOR,
+		LINE_COMMENT,
+		BLOCK_COMMENT,
+		IDENTIFIER,
+		KEYWORD,
+		NUMBER,
+		STRING,
+		TEXT_BLOCK,
+		CHARACTER,
+		SEPARATOR,
+		OPERATOR;
+
+		public boolean isSignificant()
+		{
+			return this != WHITESPACE && this != LINE_TERMINATOR && this != LINE_COMMENT && this != BLOCK_COMMENT;
+		}
+
+		public boolean isComment()
+		{
+			return this == LINE_COMMENT || this == BLOCK_COMMENT;
+		}
+	}
+
+	public record Token(TokenKind kind, int start, int end)
+	{
+		public String text(final CharSequence source)
+		{
+			return source.subSequence(start, end).toString();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+// Hands every Java source file below a root to a task on a virtual thread while the walk continues; the semaphore caps
+// open files and in-flight tasks
+public final class SourceTreeWalker
+{
+	private static final String JAVA_SOURCE_SUFFIX = ".java";
+
+	// Returns the files and directories that could not be read, in the order the walk met them. Directories that fail
+	// are skipped and the walk goes on; the first exception thrown by a task is rethrown once every task has finished
+	public static List<Path> walk(final Path root, final int maxConcurrency, final Consumer<Path> task)
+	{
+		if (root == null || !Files.isDirectory(root))
+		{
+			throw new IllegalArgumentException("Root must be an existing directory");
+		}
+		if (maxConcurrency < 1)
+		{
+			throw new IllegalArgumentException("Maximum concurrency must be at least 1");
+		}
+		if (task == null)
+		{
+			throw new IllegalArgumentException("Task cannot be null");
+		}
+
+		final List<Path> unreadable = new ArrayList<>();
+		final ConcurrentLinkedQueue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+		final Semaphore permits = new Semaphore(maxConcurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+		{
+			Files.walkFileTree(root, new SimpleFileVisitor<>()
+			{
+				@Override
+				public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes)
+				{
+					if (attributes.isRegularFile() && file.getFileName().toString().endsWith(JAVA_SOURCE_SUFFIX))
+					{
+						permits.acquireUninterruptibly();
+						executor.execute(() ->
+						{
+							try
+							{
+								task.accept(file);
+							}
+							catch (RuntimeException e)
+							{
+								failures.add(e);
+							}
+							finally
+							{
+								permits.release();
+							}
+						});
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(final Path file, final IOException e)
+				{
+					unreadable.add(file);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(final Path directory, final IOException e)
+				{
+					if (e != null)
+					{
+						unreadable.add(directory);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		final RuntimeException failure = failures.poll();
+		if (failure != null)
+		{
+			failures.forEach(failure::addSuppressed);
+			throw failure;
+		}
+		return List.copyOf(unreadable);
+	}
+
+	private SourceTreeWalker()
+	{
+	}
+}
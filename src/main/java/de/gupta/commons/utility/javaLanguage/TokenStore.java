@@ -0,0 +1,247 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+// JavaLexer output without an object per token. Tokens cover the source without gaps, so a token ends where the next
+// one starts and only the starts (plus one sentinel) and a byte per kind are kept: about five bytes per token
+public final class TokenStore
+{
+	private static final TokenKind[] KINDS = TokenKind.values();
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final char[] source;
+	private final byte[] kinds;
+	private final int[] starts;
+	private final int size;
+
+	public static TokenStore of(final CharSequence source)
+	{
+		return lex(toCharArray(source), false);
+	}
+
+	public static TokenStore withNestedComments(final CharSequence source)
+	{
+		return lex(toCharArray(source), true);
+	}
+
+	// The array is used as is, not copied, and must not be changed afterwards
+	public static TokenStore of(final char[] source)
+	{
+		if (source == null)
+		{
+			throw new IllegalArgumentException("Source cannot be null");
+		}
+		return lex(source, false);
+	}
+
+	private static char[] toCharArray(final CharSequence source)
+	{
+		if (source == null)
+		{
+			throw new IllegalArgumentException("Source cannot be null");
+		}
+		return source.toString().toCharArray();
+	}
+
+	private static TokenStore lex(final char[] source, final boolean nestedComments)
+	{
+		final CharBuffer text = CharBuffer.wrap(source);
+		final JavaLexer lexer = nestedComments ? JavaLexer.withNestedComments(text) : JavaLexer.of(text);
+
+		// Roughly one token per five chars in typical sources
+		int capacity = Math.max(INITIAL_CAPACITY, source.length / 5);
+		byte[] kinds = new byte[capacity];
+		int[] starts = new int[capacity + 1];
+		int size = 0;
+		while (lexer.next())
+		{
+			if (size == capacity)
+			{
+				capacity = capacity + (capacity >> 1);
+				kinds = Arrays.copyOf(kinds, capacity);
+				starts = Arrays.copyOf(starts, capacity + 1);
+			}
+			kinds[size] = (byte) lexer.kind().ordinal();
+			starts[size++] = lexer.start();
+		}
+		starts[size] = source.length;
+
+		return new TokenStore(source, Arrays.copyOf(kinds, size), Arrays.copyOf(starts, size + 1), size);
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public int sourceLength()
+	{
+		return source.length;
+	}
+
+	public TokenKind kind(final int index)
+	{
+		return KINDS[kinds[Objects.checkIndex(index, size)]];
+	}
+
+	public int start(final int index)
+	{
+		return starts[Objects.checkIndex(index, size)];
+	}
+
+	public int end(final int index)
+	{
+		return starts[Objects.checkIndex(index, size) + 1];
+	}
+
+	public String text(final int index)
+	{
+		final int start = start(index);
+		return new String(source, start, starts[index + 1] - start);
+	}
+
+	public boolean textEquals(final int index, final String text)
+	{
+		final int start = start(index);
+		final int end = starts[index + 1];
+		if (end - start != text.length())
+		{
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++)
+		{
+			if (source[start + i] != text.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isSignificant(final int index)
+	{
+		return kind(index).isSignificant();
+	}
+
+	public int count(final TokenKind kind)
+	{
+		final byte ordinal = (byte) kind.ordinal();
+		int count = 0;
+		for (int i = 0; i < size; i++)
+		{
+			if (kinds[i] == ordinal)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// Index of the token containing the given source offset
+	public int indexAt(final int offset)
+	{
+		Objects.checkIndex(offset, source.length);
+		final int found = Arrays.binarySearch(starts, 0, size, offset);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	public Cursor cursor()
+	{
+		return new Cursor();
+	}
+
+	private TokenStore(final char[] source, final byte[] kinds, final int[] starts, final int size)
+	{
+		this.source = source;
+		this.kinds = kinds;
+		this.starts = starts;
+		this.size = size;
+	}
+
+	// Same navigation as JavaLexer, so code written against the lexer can walk a stored source unchanged
+	public final class Cursor
+	{
+		private int index = -1;
+
+		public boolean next()
+		{
+			if (index < size)
+			{
+				index++;
+			}
+			return index < size;
+		}
+
+		public boolean nextSignificant()
+		{
+			while (next())
+			{
+				if (KINDS[kinds[index]].isSignificant())
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public boolean previousSignificant()
+		{
+			while (index > 0)
+			{
+				index--;
+				if (KINDS[kinds[index]].isSignificant())
+				{
+					return true;
+				}
+			}
+			index = -1;
+			return false;
+		}
+
+		// Positions the cursor before the given token, so the following next() lands on it
+		public void seek(final int index)
+		{
+			this.index = Objects.checkIndex(index, size + 1) - 1;
+		}
+
+		public int index()
+		{
+			return index;
+		}
+
+		public TokenKind kind()
+		{
+			return index >= 0 && index < size ? KINDS[kinds[index]] : null;
+		}
+
+		public int start()
+		{
+			return starts[Math.clamp(index, 0, size)];
+		}
+
+		public int end()
+		{
+			return index >= 0 && index < size ? starts[index + 1] : start();
+		}
+
+		public String text()
+		{
+			return TokenStore.this.text(index);
+		}
+
+		public boolean textEquals(final String text)
+		{
+			return index >= 0 && index < size && TokenStore.this.textEquals(index, text);
+		}
+
+		public boolean isSignificant()
+		{
+			final TokenKind kind = kind();
+			return kind != null && kind.isSignificant();
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package de.gupta.commons.utility.javaLanguage.classes;
 
+import de.gupta.commons.utility.string.CharacterClassUtility;
+import de.gupta.commons.utility.string.CharacterClassUtility.CharacterClass;
 import de.gupta.commons.utility.string.StringFormatUtility;
 
 import java.util.Optional;
@@ -10,8 +12,9 @@ public final class ClassNameUtility
 	{
 		return Optional.ofNullable(domainName)
 					   .filter(StringFormatUtility::startsWithUppercase)
-					   .filter(name -> name.chars().allMatch(c -> Character.isLetter(c) && c <= 127))
-					   .filter(name -> name.length() == 1 || name.chars().anyMatch(Character::isLowerCase))
+					   .map(CharacterClassUtility::profile)
+					   .filter(profile -> profile.all(CharacterClass.ASCII) && profile.all(CharacterClass.LETTER))
+					   .filter(profile -> profile.length() == 1 || profile.any(CharacterClass.LOWERCASE))
 					   .isPresent();
 	}
 
@@ -2,14 +2,35 @@ package de.gupta.commons.utility.javaLanguage.classes;
 
 import de.gupta.aletheia.functional.Unfolding;
 import de.gupta.commons.utility.io.write.FileWritingUtility;
+import de.gupta.commons.utility.io.write.FileWritingUtility.WriteOption;
+import de.gupta.commons.utility.io.write.FileWritingUtility.WriteResult;
 import de.gupta.commons.utility.javaLanguage.packages.PackageExtractor;
+import de.gupta.commons.utility.javaLanguage.packages.PackagePathManager;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 
 public final class ClassWritingUtility
 {
+	public static final int DEFAULT_CONCURRENCY = 64;
+
 	public static void writeClass(final String fileName, final String classContent, final Path contentRootPath,
 								  boolean overwrite)
 	{
@@ -33,7 +54,342 @@ public final class ClassWritingUtility
 				 .unlace(path -> FileWritingUtility.writeFileAndCreateDirectory(path, classContent, overwrite));
 	}
 
+	public static BatchWriteResult writeClasses(final Collection<GeneratedClass> classes, final Path contentRootPath,
+												final boolean overwrite)
+	{
+		return writeClasses(classes, contentRootPath, overwrite, DEFAULT_CONCURRENCY);
+	}
+
+	public static BatchWriteResult writeClasses(final Collection<GeneratedClass> classes, final Path contentRootPath,
+												final boolean overwrite, final int maxConcurrency)
+	{
+		return writeClasses(classes, contentRootPath, maxConcurrency,
+				overwrite ? new WriteOption[]{WriteOption.OVERWRITE_EXISTING} : new WriteOption[0]);
+	}
+
+	// Overwrites classes whose content differs and reports the others as unchanged without touching them, which keeps
+	// incremental builds from recompiling regenerated but identical sources
+	public static BatchWriteResult writeChangedClasses(final Collection<GeneratedClass> classes,
+													   final Path contentRootPath)
+	{
+		return writeChangedClasses(classes, contentRootPath, DEFAULT_CONCURRENCY);
+	}
+
+	public static BatchWriteResult writeChangedClasses(final Collection<GeneratedClass> classes,
+													   final Path contentRootPath, final int maxConcurrency)
+	{
+		return writeClasses(classes, contentRootPath, maxConcurrency, WriteOption.OVERWRITE_EXISTING,
+				WriteOption.SKIP_UNCHANGED);
+	}
+
+	// Packages are resolved and their directories created once up front, so the writes themselves only touch files
+	private static BatchWriteResult writeClasses(final Collection<GeneratedClass> classes, final Path contentRootPath,
+												 final int maxConcurrency, final WriteOption... options)
+	{
+		if (classes == null || contentRootPath == null)
+		{
+			throw new IllegalArgumentException("Classes and content root path cannot be null");
+		}
+		if (maxConcurrency < 1)
+		{
+			throw new IllegalArgumentException("Maximum concurrency must be at least 1");
+		}
+
+		final long started = System.nanoTime();
+		final List<PlannedWrite> plan = plan(classes, contentRootPath);
+		final int packageDirectories = createDirectories(plan);
+		final WriteOption[] writeOptions = Arrays.copyOf(options, options.length + 1);
+		writeOptions[options.length] = WriteOption.PARENT_EXISTS;
+		writeAll(plan, maxConcurrency, write -> FileWritingUtility.writeFile(write.path, write.content, writeOptions));
+		return batchResult(plan, packageDirectories, started);
+	}
+
+	// Brings the content root in line with the given classes: files the previous run wrote with the same content are
+	// skipped on the strength of the manifest, changed files are rewritten and files no longer generated are deleted.
+	// Nothing outside the manifest is walked or read, and files the manifest does not list are never deleted.
+	// A skipped file is only checked for its recorded size, so a hand edit that keeps the length of a generated file
+	// survives until its class changes; use writeChangedClasses, which compares content, to restore such edits
+	public static SyncResult syncClasses(final Collection<GeneratedClass> classes, final Path contentRootPath)
+	{
+		return syncClasses(classes, contentRootPath, DEFAULT_CONCURRENCY);
+	}
+
+	public static SyncResult syncClasses(final Collection<GeneratedClass> classes, final Path contentRootPath,
+										 final int maxConcurrency)
+	{
+		if (classes == null || contentRootPath == null)
+		{
+			throw new IllegalArgumentException("Classes and content root path cannot be null");
+		}
+		if (maxConcurrency < 1)
+		{
+			throw new IllegalArgumentException("Maximum concurrency must be at least 1");
+		}
+
+		final long started = System.nanoTime();
+		final GeneratedSourceManifest previous = GeneratedSourceManifest.read(contentRootPath);
+		final List<PlannedWrite> plan = plan(classes, contentRootPath);
+		final int packageDirectories = createDirectories(plan);
+		writeAll(plan, maxConcurrency, write -> sync(write, contentRootPath, previous));
+
+		final Map<Path, GeneratedSourceManifest.Entry> entries = new LinkedHashMap<>();
+		final Set<Path> generated = new HashSet<>();
+		for (final PlannedWrite write : plan)
+		{
+			final Path relative = contentRootPath.relativize(write.path);
+			generated.add(relative);
+			if (write.entry != null && (write.result instanceof WriteResult.Success
+					|| write.result instanceof WriteResult.Unchanged))
+			{
+				entries.put(relative, write.entry);
+			}
+			else
+			{
+				// The file of a failed write may still be on disk; keeping its previous entry lets a later run prune
+				// it once the class is no longer generated
+				previous.entry(relative).ifPresent(entry -> entries.put(relative, entry));
+			}
+		}
+
+		final List<Path> deleted = new ArrayList<>();
+		final List<Path> retained = new ArrayList<>();
+		for (final Path stale : previous.files())
+		{
+			if (generated.contains(stale))
+			{
+				continue;
+			}
+			if (delete(contentRootPath, stale))
+			{
+				deleted.add(contentRootPath.resolve(stale));
+			}
+			else
+			{
+				// Kept in the manifest, so the next run tries again
+				retained.add(contentRootPath.resolve(stale));
+				previous.entry(stale).ifPresent(entry -> entries.put(stale, entry));
+			}
+		}
+
+		GeneratedSourceManifest.of(entries).write(contentRootPath);
+		return new SyncResult(batchResult(plan, packageDirectories, started), List.copyOf(deleted),
+				List.copyOf(retained));
+	}
+
+	private static WriteResult sync(final PlannedWrite write, final Path contentRootPath,
+									final GeneratedSourceManifest previous)
+	{
+		write.entry = GeneratedSourceManifest.entryOf(write.content);
+		// A matching size guards against the file having been edited or removed since; no content is read
+		if (previous.entry(contentRootPath.relativize(write.path)).filter(write.entry::equals).isPresent()
+				&& hasSize(write.path, write.entry.size()))
+		{
+			return new WriteResult.Unchanged(write.path);
+		}
+		return FileWritingUtility.writeFile(write.path, write.content, WriteOption.OVERWRITE_EXISTING,
+				WriteOption.SKIP_UNCHANGED, WriteOption.PARENT_EXISTS);
+	}
+
+	private static boolean hasSize(final Path path, final long size)
+	{
+		try
+		{
+			return Files.isRegularFile(path) && Files.size(path) == size;
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+	// Deletes a stale file and then its package directories for as long as they are left empty
+	private static boolean delete(final Path contentRootPath, final Path stale)
+	{
+		try
+		{
+			Files.deleteIfExists(contentRootPath.resolve(stale));
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+
+		for (Path directory = stale.getParent(); directory != null; directory = directory.getParent())
+		{
+			try
+			{
+				Files.deleteIfExists(contentRootPath.resolve(directory));
+			}
+			catch (IOException e)
+			{
+				// Not empty, or not ours to remove
+				break;
+			}
+		}
+		return true;
+	}
+
+	private static void writeAll(final List<PlannedWrite> plan, final int maxConcurrency,
+								 final Function<PlannedWrite, WriteResult> writer)
+	{
+		final Semaphore permits = new Semaphore(maxConcurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+		{
+			plan.stream().filter(write -> write.result == null).forEach(write ->
+			{
+				permits.acquireUninterruptibly();
+				executor.submit(() ->
+				{
+					try
+					{
+						write.result = writer.apply(write);
+					}
+					catch (RuntimeException e)
+					{
+						write.result = new WriteResult.Error(write.path, e);
+					}
+					finally
+					{
+						permits.release();
+					}
+				});
+			});
+		}
+	}
+
+	private static BatchWriteResult batchResult(final List<PlannedWrite> plan, final int packageDirectories,
+												final long started)
+	{
+		final Map<Path, WriteResult> results = new LinkedHashMap<>();
+		plan.forEach(write -> results.put(write.path, write.result));
+		return new BatchWriteResult(Collections.unmodifiableMap(results), packageDirectories,
+				Duration.ofNanos(System.nanoTime() - started));
+	}
+
+	private static List<PlannedWrite> plan(final Collection<GeneratedClass> classes, final Path contentRootPath)
+	{
+		final Map<String, Path> directoriesByPackage = new LinkedHashMap<>();
+		final List<PlannedWrite> plan = new ArrayList<>(classes.size());
+		for (final GeneratedClass generatedClass : classes)
+		{
+			final Path fallback = contentRootPath.resolve(generatedClass.fileName());
+			try
+			{
+				final String packageName = PackageExtractor.extractPackageName(generatedClass.content());
+				final Path directory = directoriesByPackage.computeIfAbsent(packageName,
+						p -> PackagePathManager.packageDirectory(contentRootPath, p));
+				plan.add(new PlannedWrite(directory.resolve(generatedClass.fileName()), generatedClass.content()));
+			}
+			catch (IllegalArgumentException e)
+			{
+				final PlannedWrite write = new PlannedWrite(fallback, generatedClass.content());
+				write.result = new WriteResult.Error(fallback, e);
+				plan.add(write);
+			}
+		}
+
+		// Results are keyed by file, so two classes for the same file would hide one of the outcomes
+		final Set<Path> targets = new HashSet<>();
+		plan.stream().filter(write -> !targets.add(write.path)).findFirst().ifPresent(write ->
+		{
+			throw new IllegalArgumentException("File is written more than once in this batch: " + write.path);
+		});
+		return plan;
+	}
+
+	private static int createDirectories(final List<PlannedWrite> plan)
+	{
+		final Map<Path, Optional<IOException>> outcomes = new LinkedHashMap<>();
+		for (final PlannedWrite write : plan)
+		{
+			if (write.result != null)
+			{
+				continue;
+			}
+			final Optional<IOException> failure = outcomes.computeIfAbsent(write.path.getParent(),
+					ClassWritingUtility::createDirectory);
+			failure.ifPresent(e -> write.result = new WriteResult.Error(write.path, e));
+		}
+		return (int) outcomes.values().stream().filter(Optional::isEmpty).count();
+	}
+
+	private static Optional<IOException> createDirectory(final Path directory)
+	{
+		try
+		{
+			Files.createDirectories(directory);
+			return Optional.empty();
+		}
+		catch (IOException e)
+		{
+			return Optional.of(e);
+		}
+	}
+
 	private ClassWritingUtility()
 	{
 	}
-}
\ No newline at end of file
+
+	public record GeneratedClass(String fileName, String content)
+	{
+		public GeneratedClass
+		{
+			if (fileName == null || fileName.isBlank() || content == null)
+			{
+				throw new IllegalArgumentException("File name and content must be given");
+			}
+			// The package decides the directory; a name with its own directories could escape it, or the content root
+			if (fileName.contains("/") || fileName.contains("\\") || fileName.contains("..") || fileName.equals("."))
+			{
+				throw new IllegalArgumentException("File name must be a plain file name: " + fileName);
+			}
+		}
+	}
+
+	// packageDirectories counts the distinct directories ensured for this batch, whether or not they existed before
+	public record BatchWriteResult(Map<Path, WriteResult> results, int packageDirectories, Duration elapsed)
+	{
+		public long successCount()
+		{
+			return results.values().stream().filter(WriteResult.Success.class::isInstance).count();
+		}
+
+		public long unchangedCount()
+		{
+			return results.values().stream().filter(WriteResult.Unchanged.class::isInstance).count();
+		}
+
+		public Map<Path, WriteResult> failures()
+		{
+			final Map<Path, WriteResult> failures = new LinkedHashMap<>();
+			results.forEach((path, result) ->
+			{
+				if (!(result instanceof WriteResult.Success) && !(result instanceof WriteResult.Unchanged))
+				{
+					failures.put(path, result);
+				}
+			});
+			return Collections.unmodifiableMap(failures);
+		}
+	}
+
+	// deleted and retained list the stale files of the previous run that were removed and that could not be removed
+	public record SyncResult(BatchWriteResult written, List<Path> deleted, List<Path> retained)
+	{
+	}
+
+	private static final class PlannedWrite
+	{
+		private final Path path;
+		private final String content;
+		// Written by one virtual thread and read after the executor has been closed, which orders the two
+		private WriteResult result;
+		private GeneratedSourceManifest.Entry entry;
+
+		private PlannedWrite(final Path path, final String content)
+		{
+			this.path = path;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package de.gupta.commons.utility.javaLanguage.classes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+// The files a generator wrote below a content root, each with the size and SHA-256 of its content. Stored in the root
+// as one "hash size path" line per file, paths relative to the root and separated by '/'
+public final class GeneratedSourceManifest
+{
+	public static final String FILE_NAME = ".generated-sources";
+
+	private static final String SEPARATOR = " ";
+
+	private final Map<Path, Entry> entries;
+
+	public static GeneratedSourceManifest empty()
+	{
+		return new GeneratedSourceManifest(Map.of());
+	}
+
+	public static GeneratedSourceManifest of(final Map<Path, Entry> entries)
+	{
+		if (entries == null)
+		{
+			throw new IllegalArgumentException("Entries cannot be null");
+		}
+		entries.forEach((path, entry) ->
+		{
+			if (path == null || entry == null || !isContained(path))
+			{
+				throw new IllegalArgumentException("Entries need a relative path inside the root: " + path);
+			}
+		});
+		return new GeneratedSourceManifest(entries);
+	}
+
+	// A missing manifest reads as empty. Lines that cannot be parsed, or whose path would leave the root, are ignored:
+	// their files are then rewritten and never pruned, which is the safe side for a damaged manifest
+	public static GeneratedSourceManifest read(final Path contentRootPath)
+	{
+		if (contentRootPath == null)
+		{
+			throw new IllegalArgumentException("Content root path cannot be null");
+		}
+
+		final List<String> lines;
+		try
+		{
+			lines = Files.readAllLines(contentRootPath.resolve(FILE_NAME));
+		}
+		catch (NoSuchFileException e)
+		{
+			return empty();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		final Map<Path, Entry> entries = new TreeMap<>();
+		lines.forEach(line -> parse(line).ifPresent(parsed -> entries.put(parsed.getKey(), parsed.getValue())));
+		return new GeneratedSourceManifest(entries);
+	}
+
+	public static Entry entryOf(final String content)
+	{
+		if (content == null)
+		{
+			throw new IllegalArgumentException("Content cannot be null");
+		}
+		final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		return new Entry(HexFormat.of().formatHex(sha256().digest(bytes)), bytes.length);
+	}
+
+	public Set<Path> files()
+	{
+		return entries.keySet();
+	}
+
+	public Optional<Entry> entry(final Path relativePath)
+	{
+		return Optional.ofNullable(entries.get(relativePath));
+	}
+
+	public int size()
+	{
+		return entries.size();
+	}
+
+	// Written to a sibling file first and moved into place, so an interrupted run leaves the previous manifest intact
+	public void write(final Path contentRootPath)
+	{
+		if (contentRootPath == null)
+		{
+			throw new IllegalArgumentException("Content root path cannot be null");
+		}
+
+		final StringBuilder content = new StringBuilder();
+		entries.forEach((path, entry) ->
+		{
+			content.append(entry.hash()).append(SEPARATOR).append(entry.size()).append(SEPARATOR);
+			for (final Path segment : path)
+			{
+				content.append(segment).append('/');
+			}
+			content.setCharAt(content.length() - 1, '\n');
+		});
+
+		final Path manifest = contentRootPath.resolve(FILE_NAME);
+		final Path temporary = contentRootPath.resolve(FILE_NAME + ".tmp");
+		try
+		{
+			Files.createDirectories(contentRootPath);
+			Files.writeString(temporary, content);
+			Files.move(temporary, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Optional<Map.Entry<Path, Entry>> parse(final String line)
+	{
+		final String[] fields = line.split(SEPARATOR, 3);
+		if (fields.length != 3 || fields[0].isEmpty())
+		{
+			return Optional.empty();
+		}
+		final String[] segments = fields[2].split("/", -1);
+		if (Arrays.stream(segments).anyMatch(String::isEmpty))
+		{
+			return Optional.empty();
+		}
+		try
+		{
+			final Path path = Path.of(segments[0], Arrays.copyOfRange(segments, 1, segments.length));
+			final long size = Long.parseLong(fields[1]);
+			return isContained(path) && size >= 0 ? Optional.of(Map.entry(path, new Entry(fields[0], size))) :
+					Optional.empty();
+		}
+		catch (RuntimeException e)
+		{
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isContained(final Path path)
+	{
+		return !path.isAbsolute() && path.getNameCount() > 0 && !path.toString().isEmpty()
+				&& path.normalize().equals(path) && !path.startsWith("..");
+	}
+
+	private static MessageDigest sha256()
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			// Every Java platform is required to provide SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private GeneratedSourceManifest(final Map<Path, Entry> entries)
+	{
+		this.entries = Collections.unmodifiableMap(new TreeMap<>(entries));
+	}
+
+	public record Entry(String hash, long size)
+	{
+		public Entry
+		{
+			if (hash == null || hash.isBlank() || hash.contains(SEPARATOR) || size < 0)
+			{
+				throw new IllegalArgumentException("Entry needs a hash and a non-negative size");
+			}
+		}
+	}
+}
@@ -0,0 +1,377 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.Import;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Directed graph where an edge points from a node to something it depends on. Strongly connected components are
+// computed once, dependencies first, and drive both cycle detection and the level schedule
+public final class DependencyGraph<T>
+{
+	private final List<T> nodes;
+	private final Map<T, Integer> indices;
+	private final int[][] dependencies;
+	private final int[][] dependents;
+	private final List<Set<T>> components;
+	private final int[] componentOf;
+	private final List<List<Set<T>>> schedule;
+
+	public static <T> Builder<T> builder()
+	{
+		return new Builder<>();
+	}
+
+	// Files depend on every file declaring what they import. Same-package references need no import and the symbol
+	// table does not record which simple names a file uses, so each file also depends on the other files of its package
+	public static DependencyGraph<Path> ofImports(final SymbolTable symbolTable)
+	{
+		if (symbolTable == null)
+		{
+			throw new IllegalArgumentException("Symbol table cannot be null");
+		}
+
+		final List<Path> files = symbolTable.files().stream().sorted().toList();
+		final Map<String, List<Path>> filesByPackage = new HashMap<>();
+		files.forEach(file -> filesByPackage.computeIfAbsent(packageOf(symbolTable, file), _ -> new ArrayList<>())
+											.add(file));
+
+		final Builder<Path> builder = builder();
+		files.forEach(file ->
+		{
+			builder.addNode(file);
+			final Stream<Path> imported = symbolTable.symbolsOf(file)
+													 .map(SymbolTable.FileSymbols::imports)
+													 .orElse(List.of())
+													 .stream()
+													 .flatMap(anImport -> importedFiles(symbolTable, filesByPackage,
+															 anImport).stream());
+			Stream.concat(filesByPackage.get(packageOf(symbolTable, file)).stream(), imported)
+				  .filter(target -> !target.equals(file))
+				  .forEach(target -> builder.addDependency(file, target));
+		});
+		return builder.build();
+	}
+
+	// Files without a package declaration share the unnamed package
+	private static String packageOf(final SymbolTable symbolTable, final Path file)
+	{
+		return symbolTable.symbolsOf(file).flatMap(SymbolTable.FileSymbols::packageName).orElse("");
+	}
+
+	private static List<Path> importedFiles(final SymbolTable symbolTable, final Map<String, List<Path>> filesByPackage,
+											final Import anImport)
+	{
+		final String name = anImport.isOnDemand() ? anImport.name().substring(0, anImport.name().length() - 2) :
+				anImport.name();
+		// "a.b.*" names a package or a type; "import static a.B.m" and "import a.B.Inner" are found through a.B
+		if (anImport.isOnDemand() && !anImport.isStatic() && filesByPackage.containsKey(name))
+		{
+			return filesByPackage.get(name);
+		}
+		return declaringFiles(symbolTable, anImport.isStatic() && !anImport.isOnDemand() ? enclosing(name) : name);
+	}
+
+	// A name declared in several files, e.g. in two source sets, makes the importer depend on all of them
+	private static List<Path> declaringFiles(final SymbolTable symbolTable, final String name)
+	{
+		for (String candidate = name; !candidate.isEmpty(); candidate = enclosing(candidate))
+		{
+			final Set<Path> files = symbolTable.filesOf(candidate);
+			if (!files.isEmpty())
+			{
+				return files.stream().sorted().toList();
+			}
+		}
+		return List.of();
+	}
+
+	private static String enclosing(final String name)
+	{
+		return name.substring(0, Math.max(0, name.lastIndexOf('.')));
+	}
+
+	public Set<T> nodes()
+	{
+		return new LinkedHashSet<>(nodes);
+	}
+
+	public Set<T> dependenciesOf(final T node)
+	{
+		return nodesAt(dependencies[indexOf(node)]);
+	}
+
+	public Set<T> dependentsOf(final T node)
+	{
+		return nodesAt(dependents[indexOf(node)]);
+	}
+
+	// Everything that has to be rebuilt when the given nodes change, not including the nodes themselves unless they
+	// are part of a cycle through each other
+	public Set<T> transitiveDependentsOf(final Set<T> changed)
+	{
+		if (changed == null)
+		{
+			throw new IllegalArgumentException("Changed nodes cannot be null");
+		}
+
+		final boolean[] visited = new boolean[nodes.size()];
+		final Deque<Integer> pending = new ArrayDeque<>();
+		changed.forEach(node -> pending.push(indexOf(node)));
+		final Set<T> result = new LinkedHashSet<>();
+		while (!pending.isEmpty())
+		{
+			for (final int dependent : dependents[pending.pop()])
+			{
+				if (!visited[dependent])
+				{
+					visited[dependent] = true;
+					result.add(nodes.get(dependent));
+					pending.push(dependent);
+				}
+			}
+		}
+		return result;
+	}
+
+	// Components in dependency order: every component comes after the components it depends on
+	public List<Set<T>> stronglyConnectedComponents()
+	{
+		return components;
+	}
+
+	public List<Set<T>> cycles()
+	{
+		return components.stream()
+						 .filter(component -> component.size() > 1 || isSelfDependent(component.iterator().next()))
+						 .toList();
+	}
+
+	public boolean hasCycles()
+	{
+		return !cycles().isEmpty();
+	}
+
+	// Components grouped into levels; a component only depends on components of earlier levels, so all components of
+	// one level can be processed at the same time
+	public List<List<Set<T>>> schedule()
+	{
+		return schedule;
+	}
+
+	// Runs the task once per component, level by level, with the components of a level submitted together
+	public void execute(final Executor executor, final Consumer<Set<T>> task)
+	{
+		if (executor == null || task == null)
+		{
+			throw new IllegalArgumentException("Executor and task cannot be null");
+		}
+
+		for (final List<Set<T>> level : schedule)
+		{
+			CompletableFuture.allOf(level.stream()
+										 .map(component -> CompletableFuture.runAsync(() -> task.accept(component),
+												 executor))
+										 .toArray(CompletableFuture[]::new))
+							 .join();
+		}
+	}
+
+	private boolean isSelfDependent(final T node)
+	{
+		final int index = indices.get(node);
+		return Arrays.stream(dependencies[index]).anyMatch(dependency -> dependency == index);
+	}
+
+	private int indexOf(final T node)
+	{
+		final Integer index = indices.get(node);
+		if (index == null)
+		{
+			throw new IllegalArgumentException("Unknown node: " + node);
+		}
+		return index;
+	}
+
+	private Set<T> nodesAt(final int[] positions)
+	{
+		return Arrays.stream(positions).mapToObj(nodes::get).collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	// Iterative Tarjan, so deep dependency chains cannot overflow the stack. A component is completed only after
+	// every component reachable from it, which is exactly dependency order for these edges
+	private int[] tarjan(final List<Set<T>> found)
+	{
+		final int size = nodes.size();
+		final int[] number = new int[size];
+		final int[] low = new int[size];
+		final int[] nextEdge = new int[size];
+		final int[] component = new int[size];
+		final boolean[] onStack = new boolean[size];
+		final int[] stack = new int[size];
+		final int[] calls = new int[size];
+		Arrays.fill(number, -1);
+		int counter = 0;
+		int stackSize = 0;
+
+		for (int root = 0; root < size; root++)
+		{
+			if (number[root] >= 0)
+			{
+				continue;
+			}
+			int callDepth = 0;
+			calls[callDepth++] = root;
+			number[root] = low[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+
+			while (callDepth > 0)
+			{
+				final int node = calls[callDepth - 1];
+				if (nextEdge[node] < dependencies[node].length)
+				{
+					final int next = dependencies[node][nextEdge[node]++];
+					if (number[next] < 0)
+					{
+						number[next] = low[next] = counter++;
+						stack[stackSize++] = next;
+						onStack[next] = true;
+						calls[callDepth++] = next;
+					}
+					else if (onStack[next])
+					{
+						low[node] = Math.min(low[node], number[next]);
+					}
+					continue;
+				}
+
+				callDepth--;
+				if (callDepth > 0)
+				{
+					final int parent = calls[callDepth - 1];
+					low[parent] = Math.min(low[parent], low[node]);
+				}
+				if (low[node] == number[node])
+				{
+					final Set<T> members = new LinkedHashSet<>();
+					int member;
+					do
+					{
+						member = stack[--stackSize];
+						onStack[member] = false;
+						component[member] = found.size();
+						members.add(nodes.get(member));
+					}
+					while (member != node);
+					found.add(Collections.unmodifiableSet(members));
+				}
+			}
+		}
+		return component;
+	}
+
+	private List<List<Set<T>>> levels()
+	{
+		final int[] levelOf = new int[components.size()];
+		final List<List<Set<T>>> levels = new ArrayList<>();
+		for (int c = 0; c < components.size(); c++)
+		{
+			int level = 0;
+			for (final T member : components.get(c))
+			{
+				for (final int dependency : dependencies[indices.get(member)])
+				{
+					if (componentOf[dependency] != c)
+					{
+						level = Math.max(level, levelOf[componentOf[dependency]] + 1);
+					}
+				}
+			}
+			levelOf[c] = level;
+			if (level == levels.size())
+			{
+				levels.add(new ArrayList<>());
+			}
+			levels.get(level).add(components.get(c));
+		}
+		return levels.stream().map(List::copyOf).toList();
+	}
+
+	private DependencyGraph(final Map<T, Set<T>> adjacency)
+	{
+		this.nodes = List.copyOf(adjacency.keySet());
+		this.indices = new HashMap<>();
+		for (int i = 0; i < nodes.size(); i++)
+		{
+			indices.put(nodes.get(i), i);
+		}
+
+		this.dependencies = new int[nodes.size()][];
+		final List<List<Integer>> reverse = new ArrayList<>();
+		nodes.forEach(_ -> reverse.add(new ArrayList<>()));
+		for (int i = 0; i < nodes.size(); i++)
+		{
+			dependencies[i] = adjacency.get(nodes.get(i)).stream().mapToInt(indices::get).toArray();
+			for (final int dependency : dependencies[i])
+			{
+				reverse.get(dependency).add(i);
+			}
+		}
+		this.dependents = reverse.stream()
+								 .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+								 .toArray(int[][]::new);
+
+		final List<Set<T>> found = new ArrayList<>();
+		this.componentOf = tarjan(found);
+		this.components = List.copyOf(found);
+		this.schedule = levels();
+	}
+
+	public static final class Builder<T>
+	{
+		private final Map<T, Set<T>> adjacency = new LinkedHashMap<>();
+
+		public Builder<T> addNode(final T node)
+		{
+			if (node == null)
+			{
+				throw new IllegalArgumentException("Node cannot be null");
+			}
+			adjacency.computeIfAbsent(node, _ -> new LinkedHashSet<>());
+			return this;
+		}
+
+		public Builder<T> addDependency(final T node, final T dependency)
+		{
+			addNode(node);
+			addNode(dependency);
+			adjacency.get(node).add(dependency);
+			return this;
+		}
+
+		public DependencyGraph<T> build()
+		{
+			return new DependencyGraph<>(adjacency);
+		}
+
+		private Builder()
+		{
+		}
+	}
+}
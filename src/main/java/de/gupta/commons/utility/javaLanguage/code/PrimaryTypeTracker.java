@@ -0,0 +1,84 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// The primary type of a source file: the unique public top-level type, else the unique non-public one. A name declared
+// more than once still counts as one candidate; the first declaration of it is the one reported
+public final class PrimaryTypeTracker<T>
+{
+	private T publicType;
+	private String publicName;
+	private boolean publicAmbiguous;
+	private T nonPublicType;
+	private String nonPublicName;
+	private boolean nonPublicAmbiguous;
+
+	public static <T> PrimaryTypeTracker<T> create()
+	{
+		return new PrimaryTypeTracker<>();
+	}
+
+	public static <T> Optional<T> primaryTypeOf(final Collection<T> types, final Function<T, String> name,
+												final Predicate<T> isPublic)
+	{
+		if (types == null || name == null || isPublic == null)
+		{
+			throw new IllegalArgumentException("Types, name and visibility cannot be null");
+		}
+
+		final PrimaryTypeTracker<T> tracker = create();
+		for (final T type : types)
+		{
+			tracker.accept(type, name.apply(type), isPublic.test(type));
+			if (tracker.isDecided())
+			{
+				break;
+			}
+		}
+		return tracker.primaryType();
+	}
+
+	public void accept(final T type, final String name, final boolean isPublic)
+	{
+		if (isPublic)
+		{
+			publicAmbiguous |= publicName != null && !publicName.equals(name);
+			if (publicName == null)
+			{
+				publicType = type;
+				publicName = name;
+			}
+		}
+		else
+		{
+			nonPublicAmbiguous |= nonPublicName != null && !nonPublicName.equals(name);
+			if (nonPublicName == null)
+			{
+				nonPublicType = type;
+				nonPublicName = name;
+			}
+		}
+	}
+
+	// Once both candidates are ambiguous no later declaration can produce a primary type
+	public boolean isDecided()
+	{
+		return publicAmbiguous && nonPublicAmbiguous;
+	}
+
+	public Optional<T> primaryType()
+	{
+		if (publicName != null && !publicAmbiguous)
+		{
+			return Optional.of(publicType);
+		}
+		return nonPublicAmbiguous ? Optional.empty() : Optional.ofNullable(nonPublicType);
+	}
+
+	private PrimaryTypeTracker()
+	{
+	}
+}
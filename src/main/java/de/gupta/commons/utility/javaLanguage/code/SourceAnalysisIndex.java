@@ -0,0 +1,442 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.packages.PackageExtractor;
+import de.gupta.commons.utility.string.StringHashUtility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// The index file is an append-only log of records; a later record for the same path supersedes earlier ones until
+// compact() rewrites the file with one record per existing source file
+public final class SourceAnalysisIndex implements AutoCloseable
+{
+	private static final int MAGIC = 0x4A534149;
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 2 * Integer.BYTES;
+	private static final int NO_PACKAGE = -1;
+
+	private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+	private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+	private final Path indexFile;
+	private final Map<String, Entry> updated = new ConcurrentHashMap<>();
+	private final Map<String, Entry> pending = new ConcurrentHashMap<>();
+
+	private Arena arena;
+	private MemorySegment mapped;
+	private Map<String, Long> mappedOffsets;
+	private int mappedRecords;
+	// Records save() appended after the mapping was made, which the mapping does not describe
+	private Set<String> appendedKeys;
+	private int appendedRecords;
+	private boolean needsRewrite;
+
+	public static SourceAnalysisIndex open(final Path indexFile)
+	{
+		if (indexFile == null)
+		{
+			throw new IllegalArgumentException("Index file cannot be null");
+		}
+		final SourceAnalysisIndex index = new SourceAnalysisIndex(indexFile.toAbsolutePath().normalize());
+		index.map();
+		return index;
+	}
+
+	public SourceAnalysis analyse(final Path sourceFile)
+	{
+		if (sourceFile == null)
+		{
+			throw new IllegalArgumentException("Source file cannot be null");
+		}
+
+		final String key = sourceFile.toAbsolutePath().normalize().toString();
+		try
+		{
+			final BasicFileAttributes attributes = Files.readAttributes(sourceFile, BasicFileAttributes.class);
+			final long size = attributes.size();
+			final long modified = attributes.lastModifiedTime().toMillis();
+
+			final Optional<Entry> known = lookup(key);
+			// Unchanged size and mtime: the file is not even opened
+			if (known.filter(entry -> entry.size() == size && entry.modified() == modified).isPresent())
+			{
+				return known.get().analysis();
+			}
+
+			final byte[] content = Files.readAllBytes(sourceFile);
+			final long hash = StringHashUtility.hash64(content);
+			// Touched but identical content, e.g. after a checkout: only the fingerprint is refreshed
+			final SourceAnalysis analysis =
+					known.filter(entry -> entry.size() == content.length && entry.hash() == hash)
+						 .map(Entry::analysis)
+						 .orElseGet(() -> SourceAnalysis.of(new String(content, StandardCharsets.UTF_8)));
+			record(key, new Entry(content.length, modified, hash, analysis));
+			return analysis;
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// An unchanged file is answered from the index without being read
+	public Optional<String> packageName(final Path sourceFile)
+	{
+		return analyse(sourceFile).packageName();
+	}
+
+	public Optional<String> uniqueTypeName(final Path sourceFile)
+	{
+		return analyse(sourceFile).uniqueTypeName();
+	}
+
+	public Optional<SourceAnalysis> cached(final Path sourceFile)
+	{
+		if (sourceFile == null)
+		{
+			throw new IllegalArgumentException("Source file cannot be null");
+		}
+		return lookup(sourceFile.toAbsolutePath().normalize().toString()).map(Entry::analysis);
+	}
+
+	public synchronized int size()
+	{
+		final Set<String> keys = new HashSet<>(mappedOffsets.keySet());
+		keys.addAll(updated.keySet());
+		return keys.size();
+	}
+
+	// Records in the file that a later record, or a pending update, has made obsolete
+	public synchronized int supersededRecords()
+	{
+		final Set<String> saved = new HashSet<>(mappedOffsets.keySet());
+		saved.addAll(appendedKeys);
+		return mappedRecords + appendedRecords - saved.size() + (int) pending.keySet().stream()
+																			 .filter(saved::contains)
+																			 .count();
+	}
+
+	public synchronized void save()
+	{
+		if (needsRewrite)
+		{
+			compact();
+			return;
+		}
+		if (pending.isEmpty())
+		{
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND))
+		{
+			if (channel.size() == 0)
+			{
+				write(channel, header());
+			}
+			for (final Map.Entry<String, Entry> entry : pending.entrySet())
+			{
+				write(channel, encode(entry.getKey(), entry.getValue()));
+			}
+			appendedKeys.addAll(pending.keySet());
+			appendedRecords += pending.size();
+			pending.clear();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Rewrites the index with the latest record of every source file that still exists; returns the records dropped
+	public synchronized int compact()
+	{
+		final Map<String, Entry> live = new HashMap<>();
+		mappedOffsets.forEach((key, offset) -> live.put(key, decode(offset)));
+		live.putAll(updated);
+		final int before = mappedRecords + appendedRecords + pending.size();
+		live.keySet().removeIf(key -> !Files.exists(Path.of(key)));
+
+		final Path temporary = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+		boolean replaced = false;
+		try
+		{
+			Files.createDirectories(indexFile.toAbsolutePath().getParent());
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+			{
+				write(channel, header());
+				for (final Map.Entry<String, Entry> entry : live.entrySet())
+				{
+					write(channel, encode(entry.getKey(), entry.getValue()));
+				}
+			}
+
+			// The mapping must be released before the file underneath it is replaced
+			unmap();
+			Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			replaced = true;
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		finally
+		{
+			// A failed move leaves the old file in place; it is mapped again and the updates stay pending, so offsets
+			// never point into a released mapping
+			if (replaced)
+			{
+				updated.clear();
+				pending.clear();
+			}
+			if (arena == null)
+			{
+				map();
+			}
+		}
+		return Math.max(0, before - live.size());
+	}
+
+	@Override
+	public synchronized void close()
+	{
+		save();
+		unmap();
+	}
+
+	private Optional<Entry> lookup(final String key)
+	{
+		final Entry entry = updated.get(key);
+		if (entry != null)
+		{
+			return Optional.of(entry);
+		}
+		synchronized (this)
+		{
+			return Optional.ofNullable(mappedOffsets.get(key)).map(this::decode);
+		}
+	}
+
+	private synchronized void record(final String key, final Entry entry)
+	{
+		updated.put(key, entry);
+		pending.put(key, entry);
+	}
+
+	private void map()
+	{
+		mappedOffsets = new HashMap<>();
+		mappedRecords = 0;
+		appendedKeys = new HashSet<>();
+		appendedRecords = 0;
+		needsRewrite = false;
+		arena = Arena.ofShared();
+		mapped = MemorySegment.NULL;
+		try
+		{
+			if (!Files.exists(indexFile) || Files.size(indexFile) == 0)
+			{
+				return;
+			}
+			try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ))
+			{
+				mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		if (mapped.byteSize() < HEADER_BYTES || mapped.get(INT, 0) != MAGIC
+				|| mapped.get(INT, Integer.BYTES) != VERSION)
+		{
+			needsRewrite = true;
+			mapped = MemorySegment.NULL;
+			return;
+		}
+
+		// Only paths are decoded up front; the rest of a record is read from the mapping when it is looked up
+		long position = HEADER_BYTES;
+		while (position + Integer.BYTES <= mapped.byteSize())
+		{
+			final int length = mapped.get(INT, position);
+			if (length < Integer.BYTES || position + Integer.BYTES + length > mapped.byteSize())
+			{
+				// A torn write at the tail, e.g. after a crash; the next save rewrites the file
+				needsRewrite = true;
+				break;
+			}
+			mappedOffsets.put(readString(position + Integer.BYTES), position);
+			mappedRecords++;
+			position += Integer.BYTES + length;
+		}
+		needsRewrite |= position != mapped.byteSize();
+	}
+
+	private void unmap()
+	{
+		if (arena != null)
+		{
+			arena.close();
+			arena = null;
+		}
+		mapped = MemorySegment.NULL;
+	}
+
+	private Entry decode(final long offset)
+	{
+		long position = offset + Integer.BYTES;
+		position += Integer.BYTES + mapped.get(INT, position);
+		final long size = mapped.get(LONG, position);
+		final long modified = mapped.get(LONG, position + Long.BYTES);
+		final long hash = mapped.get(LONG, position + 2 * Long.BYTES);
+		position += 3 * Long.BYTES;
+
+		final String packageName = mapped.get(INT, position) == NO_PACKAGE ? null : readString(position);
+		position += Integer.BYTES + Math.max(0, mapped.get(INT, position));
+
+		final int typeCount = mapped.get(INT, position);
+		position += Integer.BYTES;
+		final List<TopLevelType> types = new ArrayList<>(typeCount);
+		for (int i = 0; i < typeCount; i++)
+		{
+			final String name = readString(position);
+			position += Integer.BYTES + mapped.get(INT, position);
+			types.add(new TopLevelType(name, mapped.get(ValueLayout.JAVA_BYTE, position) != 0));
+			position++;
+		}
+		return new Entry(size, modified, hash, new SourceAnalysis(Optional.ofNullable(packageName), types));
+	}
+
+	private String readString(final long position)
+	{
+		final int length = mapped.get(INT, position);
+		return new String(mapped.asSlice(position + Integer.BYTES, length).toArray(ValueLayout.JAVA_BYTE),
+				StandardCharsets.UTF_8);
+	}
+
+	private static ByteBuffer header()
+	{
+		return ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(MAGIC).putInt(VERSION).flip();
+	}
+
+	private static ByteBuffer encode(final String key, final Entry entry)
+	{
+		final byte[] path = key.getBytes(StandardCharsets.UTF_8);
+		final byte[] packageName = entry.analysis().packageName().map(p -> p.getBytes(StandardCharsets.UTF_8))
+										.orElse(null);
+		final List<byte[]> typeNames = entry.analysis().types().stream()
+											.map(type -> type.name().getBytes(StandardCharsets.UTF_8))
+											.toList();
+
+		int length = Integer.BYTES + path.length + 3 * Long.BYTES + Integer.BYTES
+				+ (packageName == null ? 0 : packageName.length) + Integer.BYTES;
+		for (final byte[] typeName : typeNames)
+		{
+			length += Integer.BYTES + typeName.length + 1;
+		}
+
+		final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(length).putInt(path.length).put(path);
+		buffer.putLong(entry.size()).putLong(entry.modified()).putLong(entry.hash());
+		if (packageName == null)
+		{
+			buffer.putInt(NO_PACKAGE);
+		}
+		else
+		{
+			buffer.putInt(packageName.length).put(packageName);
+		}
+		buffer.putInt(typeNames.size());
+		for (int i = 0; i < typeNames.size(); i++)
+		{
+			buffer.putInt(typeNames.get(i).length).put(typeNames.get(i));
+			buffer.put((byte) (entry.analysis().types().get(i).isPublic() ? 1 : 0));
+		}
+		return buffer.flip();
+	}
+
+	private static void write(final FileChannel channel, final ByteBuffer buffer) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+	}
+
+	private SourceAnalysisIndex(final Path indexFile)
+	{
+		this.indexFile = indexFile;
+	}
+
+	public record SourceAnalysis(Optional<String> packageName, List<TopLevelType> types)
+	{
+		public SourceAnalysis
+		{
+			types = List.copyOf(types);
+		}
+
+		static SourceAnalysis of(final String sourceCode)
+		{
+			return new SourceAnalysis(packageNameOf(sourceCode), typesOf(sourceCode));
+		}
+
+		public Optional<String> uniqueTypeName()
+		{
+			return PrimaryTypeTracker.primaryTypeOf(types, TopLevelType::name, TopLevelType::isPublic)
+									 .map(TopLevelType::name);
+		}
+
+		private static Optional<String> packageNameOf(final String sourceCode)
+		{
+			try
+			{
+				return Optional.of(PackageExtractor.extractPackageName(sourceCode));
+			}
+			catch (IllegalArgumentException e)
+			{
+				return Optional.empty();
+			}
+		}
+
+		private static List<TopLevelType> typesOf(final String sourceCode)
+		{
+			return SourceOutline.of(sourceCode)
+								.types()
+								.stream()
+								.map(type -> new TopLevelType(type.name(), type.isPublic()))
+								.toList();
+		}
+	}
+
+	public record TopLevelType(String name, boolean isPublic)
+	{
+	}
+
+	private record Entry(long size, long modified, long hash, SourceAnalysis analysis)
+	{
+	}
+}
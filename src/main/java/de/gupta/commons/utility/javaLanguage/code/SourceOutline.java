@@ -0,0 +1,263 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.JavaLexer;
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public final class SourceOutline
+{
+	private final String packageName;
+	private final List<Import> imports;
+	private final List<TypeOutline> types;
+
+	public static SourceOutline of(final String sourceCode)
+	{
+		if (sourceCode == null)
+		{
+			throw new IllegalArgumentException("Source code cannot be null");
+		}
+		return new Scanner(sourceCode).scan();
+	}
+
+	public Optional<String> packageName()
+	{
+		return Optional.ofNullable(packageName);
+	}
+
+	public List<Import> imports()
+	{
+		return imports;
+	}
+
+	public List<TypeOutline> types()
+	{
+		return types;
+	}
+
+	public Optional<TypeOutline> primaryType()
+	{
+		return PrimaryTypeTracker.primaryTypeOf(types, TypeOutline::name, TypeOutline::isPublic);
+	}
+
+	private SourceOutline(final String packageName, final List<Import> imports, final List<TypeOutline> types)
+	{
+		this.packageName = packageName;
+		this.imports = List.copyOf(imports);
+		this.types = List.copyOf(types);
+	}
+
+	public enum TypeKind
+	{
+		CLASS,
+		INTERFACE,
+		ENUM,
+		RECORD,
+		ANNOTATION
+	}
+
+	public record Import(String name, boolean isStatic)
+	{
+		public boolean isOnDemand()
+		{
+			return name.endsWith(".*");
+		}
+
+		public String simpleName()
+		{
+			return name.substring(name.lastIndexOf('.') + 1);
+		}
+	}
+
+	// start is the first annotation or modifier of the declaration, end is just past its closing brace
+	public record TypeOutline(String name, TypeKind kind, boolean isPublic, int start, int end)
+	{
+	}
+
+	private static final class Scanner
+	{
+		private final String source;
+		private final JavaLexer lexer;
+		private final List<Import> imports = new ArrayList<>();
+		private final List<TypeOutline> types = new ArrayList<>();
+		private String packageName;
+
+		private int braceDepth;
+		private int parenthesisDepth;
+		private int declarationStart = -1;
+		private boolean publicModifier;
+		private boolean afterDot;
+		private boolean afterAt;
+		private TypeOutline openType;
+
+		private Scanner(final String source)
+		{
+			this.source = source;
+			this.lexer = JavaLexer.of(source);
+		}
+
+		private SourceOutline scan()
+		{
+			while (lexer.nextSignificant())
+			{
+				final boolean topLevel = braceDepth == 0 && parenthesisDepth == 0;
+				if (topLevel && declarationStart < 0)
+				{
+					declarationStart = lexer.start();
+				}
+
+				if (topLevel && openType == null && lexer.kind() == TokenKind.KEYWORD && lexer.textEquals("package"))
+				{
+					final String name = qualifiedName(false);
+					packageName = packageName == null ? name : packageName;
+					endDeclaration();
+				}
+				else if (topLevel && openType == null && lexer.kind() == TokenKind.KEYWORD
+						&& lexer.textEquals("import"))
+				{
+					scanImport();
+					endDeclaration();
+				}
+				else if (topLevel && openType == null && !afterDot && isTypeKeyword())
+				{
+					final TypeKind kind = typeKind();
+					if (lexer.nextSignificant() && lexer.kind() == TokenKind.IDENTIFIER)
+					{
+						openType = new TypeOutline(lexer.text(), kind, publicModifier, declarationStart, -1);
+					}
+				}
+				else if (topLevel && lexer.kind() == TokenKind.KEYWORD && lexer.textEquals("public"))
+				{
+					publicModifier = true;
+				}
+				else if (lexer.kind() == TokenKind.SEPARATOR)
+				{
+					scanSeparator(topLevel);
+				}
+				afterDot = lexer.textEquals(".");
+				afterAt = lexer.textEquals("@");
+			}
+
+			// A type left open by a truncated source still ends at the end of the source
+			if (openType != null)
+			{
+				closeType(source.length());
+			}
+			return new SourceOutline(packageName, imports, types);
+		}
+
+		private void scanSeparator(final boolean topLevel)
+		{
+			if (lexer.textEquals("{"))
+			{
+				braceDepth++;
+			}
+			else if (lexer.textEquals("}"))
+			{
+				braceDepth = Math.max(0, braceDepth - 1);
+				if (braceDepth == 0 && openType != null)
+				{
+					closeType(lexer.end());
+				}
+			}
+			else if (lexer.textEquals("("))
+			{
+				parenthesisDepth++;
+			}
+			else if (lexer.textEquals(")"))
+			{
+				parenthesisDepth = Math.max(0, parenthesisDepth - 1);
+			}
+			else if (topLevel && openType == null && lexer.textEquals(";"))
+			{
+				endDeclaration();
+			}
+		}
+
+		private void scanImport()
+		{
+			if (!lexer.nextSignificant())
+			{
+				return;
+			}
+			final boolean isStatic = lexer.kind() == TokenKind.KEYWORD && lexer.textEquals("static");
+			if (isStatic && !lexer.nextSignificant())
+			{
+				return;
+			}
+
+			final String name = qualifiedNameFrom(true);
+			if (name != null)
+			{
+				imports.add(new Import(name, isStatic));
+			}
+		}
+
+		private String qualifiedName(final boolean allowWildcard)
+		{
+			return lexer.nextSignificant() ? qualifiedNameFrom(allowWildcard) : null;
+		}
+
+		// Reads "a.b.C" (or "a.b.*") up to and including the closing ";", starting at the current token
+		private String qualifiedNameFrom(final boolean allowWildcard)
+		{
+			final StringBuilder name = new StringBuilder();
+			boolean expectingSegment = true;
+			do
+			{
+				if (expectingSegment && (lexer.kind() == TokenKind.IDENTIFIER
+						|| (allowWildcard && !name.isEmpty() && lexer.textEquals("*"))))
+				{
+					name.append(source, lexer.start(), lexer.end());
+					expectingSegment = false;
+				}
+				else if (!expectingSegment && lexer.textEquals("."))
+				{
+					name.append('.');
+					expectingSegment = true;
+				}
+				else
+				{
+					return !expectingSegment && lexer.textEquals(";") ? name.toString() : null;
+				}
+			}
+			while (lexer.nextSignificant());
+			return null;
+		}
+
+		private boolean isTypeKeyword()
+		{
+			return switch (lexer.kind())
+			{
+				case KEYWORD -> lexer.textEquals("class") || lexer.textEquals("interface") || lexer.textEquals("enum");
+				case IDENTIFIER -> lexer.textEquals("record");
+				default -> false;
+			};
+		}
+
+		private TypeKind typeKind()
+		{
+			if (lexer.textEquals("interface"))
+			{
+				return afterAt ? TypeKind.ANNOTATION : TypeKind.INTERFACE;
+			}
+			return lexer.textEquals("class") ? TypeKind.CLASS : lexer.textEquals("enum") ? TypeKind.ENUM :
+					TypeKind.RECORD;
+		}
+
+		private void closeType(final int end)
+		{
+			types.add(new TypeOutline(openType.name(), openType.kind(), openType.isPublic(), openType.start(), end));
+			openType = null;
+			endDeclaration();
+		}
+
+		private void endDeclaration()
+		{
+			declarationStart = -1;
+			publicModifier = false;
+		}
+	}
+}
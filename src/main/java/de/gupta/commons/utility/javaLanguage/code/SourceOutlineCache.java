@@ -0,0 +1,103 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.string.StringHashUtility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class SourceOutlineCache
+{
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private final int capacity;
+	private final Map<Long, Entry> entries;
+	private long hits;
+	private long misses;
+
+	public static SourceOutlineCache withDefaultCapacity()
+	{
+		return withCapacity(DEFAULT_CAPACITY);
+	}
+
+	public static SourceOutlineCache withCapacity(final int capacity)
+	{
+		if (capacity < 1)
+		{
+			throw new IllegalArgumentException("Capacity must be at least 1");
+		}
+		return new SourceOutlineCache(capacity);
+	}
+
+	public SourceOutline outlineOf(final String sourceCode)
+	{
+		if (sourceCode == null)
+		{
+			throw new IllegalArgumentException("Source code cannot be null");
+		}
+
+		final long hash = StringHashUtility.hash64(sourceCode);
+		synchronized (this)
+		{
+			final Entry entry = entries.get(hash);
+			// The stored source guards against hash collisions; for identical content this is a memory compare
+			if (entry != null && entry.sourceCode().equals(sourceCode))
+			{
+				hits++;
+				return entry.outline();
+			}
+			misses++;
+		}
+
+		// Parsing happens outside the lock so concurrent callers only serialise on the map itself
+		final SourceOutline outline = SourceOutline.of(sourceCode);
+		synchronized (this)
+		{
+			entries.put(hash, new Entry(sourceCode, outline));
+		}
+		return outline;
+	}
+
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	public synchronized long hits()
+	{
+		return hits;
+	}
+
+	public synchronized long misses()
+	{
+		return misses;
+	}
+
+	public synchronized void clear()
+	{
+		entries.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	public int capacity()
+	{
+		return capacity;
+	}
+
+	private SourceOutlineCache(final int capacity)
+	{
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest)
+			{
+				return size() > SourceOutlineCache.this.capacity;
+			}
+		};
+	}
+
+	private record Entry(String sourceCode, SourceOutline outline)
+	{
+	}
+}
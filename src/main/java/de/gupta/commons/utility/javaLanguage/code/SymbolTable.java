@@ -0,0 +1,257 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.SourceTreeWalker;
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.Import;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Top-level types of a source tree by simple and fully-qualified name. Updates of one file are atomic with respect to
+// each other; lookups never block and see either the old or the new symbols of a file being updated
+public final class SymbolTable
+{
+	public static final int DEFAULT_CONCURRENCY = 64;
+
+	private final Map<Path, FileSymbols> symbolsByFile = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> namesBySimpleName = new ConcurrentHashMap<>();
+	// Every file declaring a name, so removing one of two files declaring the same type keeps it for the other
+	private final Map<String, Set<Path>> filesByName = new ConcurrentHashMap<>();
+	private final Set<Path> unreadable = ConcurrentHashMap.newKeySet();
+
+	public static SymbolTable empty()
+	{
+		return new SymbolTable();
+	}
+
+	public static SymbolTable of(final Path root)
+	{
+		return of(root, DEFAULT_CONCURRENCY);
+	}
+
+	public static SymbolTable of(final Path root, final int maxConcurrency)
+	{
+		final SymbolTable table = new SymbolTable();
+		SourceTreeWalker.walk(root, maxConcurrency, table::updateQuietly)
+						.forEach(path -> table.unreadable.add(key(path)));
+		return table;
+	}
+
+	public void update(final Path file)
+	{
+		final Path key = key(file);
+		try
+		{
+			update(key, Files.readString(key));
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void update(final Path file, final String sourceCode)
+	{
+		final Path key = key(file);
+		final SourceOutline outline = SourceOutline.of(sourceCode);
+		final Optional<String> packageName = outline.packageName();
+		final FileSymbols symbols = new FileSymbols(packageName, outline.imports(),
+				outline.types().stream().map(type -> qualify(packageName, type.name())).distinct().toList());
+
+		symbolsByFile.compute(key, (_, previous) ->
+		{
+			if (previous != null)
+			{
+				unregister(key, previous);
+			}
+			symbols.typeNames().forEach(name -> register(key, name));
+			return symbols;
+		});
+		unreadable.remove(key);
+	}
+
+	public void remove(final Path file)
+	{
+		final Path key = key(file);
+		symbolsByFile.computeIfPresent(key, (_, previous) ->
+		{
+			unregister(key, previous);
+			return null;
+		});
+		unreadable.remove(key);
+	}
+
+	public Set<String> fullyQualifiedNames(final String simpleName)
+	{
+		return namesBySimpleName.getOrDefault(simpleName, Set.of());
+	}
+
+	// The first file by path when several declare the name
+	public Optional<Path> fileOf(final String fullyQualifiedName)
+	{
+		return filesByName.getOrDefault(fullyQualifiedName, Set.of()).stream().min(Comparator.naturalOrder());
+	}
+
+	public Set<Path> filesOf(final String fullyQualifiedName)
+	{
+		return filesByName.getOrDefault(fullyQualifiedName, Set.of());
+	}
+
+	public Optional<FileSymbols> symbolsOf(final Path file)
+	{
+		return Optional.ofNullable(symbolsByFile.get(key(file)));
+	}
+
+	// Resolves a simple name used in the given file the way the compiler would for the types this table knows:
+	// single-type imports first, then the file's own package, then on-demand imports if exactly one matches
+	public Optional<String> resolve(final Path file, final String simpleName)
+	{
+		if (simpleName == null || simpleName.isBlank())
+		{
+			throw new IllegalArgumentException("Simple name cannot be blank");
+		}
+
+		final FileSymbols symbols = symbolsByFile.get(key(file));
+		if (symbols == null)
+		{
+			return Optional.empty();
+		}
+
+		final Optional<String> imported = symbols.imports().stream()
+												 .filter(anImport -> !anImport.isStatic() && !anImport.isOnDemand())
+												 .filter(anImport -> anImport.simpleName().equals(simpleName))
+												 .map(Import::name)
+												 .findFirst();
+		if (imported.isPresent())
+		{
+			return imported;
+		}
+
+		final String samePackage = qualify(symbols.packageName(), simpleName);
+		if (filesByName.containsKey(samePackage))
+		{
+			return Optional.of(samePackage);
+		}
+
+		final List<String> onDemand = symbols.imports().stream()
+											 .filter(anImport -> !anImport.isStatic() && anImport.isOnDemand())
+											 .map(anImport -> anImport.name().substring(0, anImport.name().length() - 1)
+													 + simpleName)
+											 .filter(filesByName::containsKey)
+											 .distinct()
+											 .toList();
+		return onDemand.size() == 1 ? Optional.of(onDemand.getFirst()) : Optional.empty();
+	}
+
+	public Set<Path> files()
+	{
+		return Set.copyOf(symbolsByFile.keySet());
+	}
+
+	public int fileCount()
+	{
+		return symbolsByFile.size();
+	}
+
+	public int typeCount()
+	{
+		return filesByName.size();
+	}
+
+	public Set<Path> unreadable()
+	{
+		return Set.copyOf(unreadable);
+	}
+
+	private void updateQuietly(final Path file)
+	{
+		try
+		{
+			update(file);
+		}
+		catch (UncheckedIOException e)
+		{
+			unreadable.add(key(file));
+		}
+	}
+
+	// Sets are replaced rather than changed, so a lookup can hand them out without copying. Both maps are only changed
+	// inside the compute of the fully-qualified name, which keeps them consistent for that name
+	private void register(final Path file, final String name)
+	{
+		filesByName.compute(name, (_, files) ->
+		{
+			if (files == null)
+			{
+				namesBySimpleName.compute(simpleName(name), (_, names) -> with(names, name));
+			}
+			return with(files, file);
+		});
+	}
+
+	private void unregister(final Path file, final FileSymbols symbols)
+	{
+		symbols.typeNames().forEach(name -> filesByName.computeIfPresent(name, (_, files) ->
+		{
+			final Set<Path> remaining = without(files, file);
+			if (remaining == null)
+			{
+				namesBySimpleName.computeIfPresent(simpleName(name), (_, names) -> without(names, name));
+			}
+			return remaining;
+		}));
+	}
+
+	private static <T> Set<T> with(final Set<T> values, final T value)
+	{
+		if (values == null)
+		{
+			return Set.of(value);
+		}
+		final Set<T> updated = new HashSet<>(values);
+		updated.add(value);
+		return Set.copyOf(updated);
+	}
+
+	private static <T> Set<T> without(final Set<T> values, final T value)
+	{
+		final Set<T> updated = new HashSet<>(values);
+		updated.remove(value);
+		return updated.isEmpty() ? null : Set.copyOf(updated);
+	}
+
+	private static String qualify(final Optional<String> packageName, final String simpleName)
+	{
+		return packageName.map(name -> name + "." + simpleName).orElse(simpleName);
+	}
+
+	private static String simpleName(final String name)
+	{
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+
+	private static Path key(final Path file)
+	{
+		if (file == null)
+		{
+			throw new IllegalArgumentException("File cannot be null");
+		}
+		return file.toAbsolutePath().normalize();
+	}
+
+	private SymbolTable()
+	{
+	}
+
+	public record FileSymbols(Optional<String> packageName, List<Import> imports, List<String> typeNames)
+	{
+	}
+}
@@ -1,66 +1,87 @@
 package de.gupta.commons.utility.javaLanguage.code.type;
 
+import de.gupta.commons.utility.javaLanguage.JavaLexer;
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
 import de.gupta.commons.utility.javaLanguage.code.EmptySourceCodeException;
+import de.gupta.commons.utility.javaLanguage.code.PrimaryTypeTracker;
 import de.gupta.commons.utility.string.StringSanitizationUtility;
 import de.gupta.commons.utility.string.StringSearchUtility;
 import de.gupta.commons.utility.string.StringTokenizeUtility;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public final class CodeTypeAnalysisUtility
 {
+	private static final Pattern TYPE_DECLARATION_LINE = Pattern.compile(
+			"^(\\s*)(public\\s+|private\\s+|protected\\s+|static\\s+|final\\s+|abstract\\s+)*" +
+					"(class|interface|record)\\s+[A-Za-z0-9_$]+(<.*>)?");
+
 	public static String findUniqueTypeName(final String sourceCode)
 	{
 		return Optional.ofNullable(sourceCode)
 					   .filter(StringSanitizationUtility::isStringNonBlank)
-					   .map(String::trim)
-					   .map(s -> s.split("\\r?\\n"))
-					   .map(Arrays::stream)
-					   .map(lines -> findTheRelevantDeclarationFrom(typeDeclarationsIn(lines.toList())))
+					   .map(source -> scanTopLevelDeclarations(source)
+							   .primaryType()
+							   .orElseThrow(() -> NoDeclarationsFoundException.withMessage("No unique declaration " +
+									   "found in source code")))
 					   .map(TypeDeclaration::name)
 					   .orElseThrow(() -> EmptySourceCodeException.withMessage("Source code cannot be null or blank"));
 	}
 
-	private static TypeDeclaration findTheRelevantDeclarationFrom(final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return uniquePublicDeclarationFrom(typeDeclarations)
-				.orElseGet(() -> uniqueNonPublicDeclarationFrom(typeDeclarations)
-						.orElseThrow(() -> NoDeclarationsFoundException.withMessage("No unique declaration " +
-								"found in source code"))
-				);
-	}
-
-	private static Collection<TypeDeclaration> typeDeclarationsIn(final Collection<String> lines)
+	// One pass over the tokens: brace depth limits the scan to top-level types, and uniqueness is tracked as we go
+	private static PrimaryTypeTracker<TypeDeclaration> scanTopLevelDeclarations(final String sourceCode)
 	{
-		return lines.stream()
-					.map(String::trim)
-					.filter(CodeTypeAnalysisUtility::isTypeDeclaration)
-					.map(CodeTypeAnalysisUtility::parseTypeDeclaration)
-					.toList();
+		final PrimaryTypeTracker<TypeDeclaration> tracker = PrimaryTypeTracker.create();
+		final JavaLexer lexer = JavaLexer.of(sourceCode);
+		int braceDepth = 0;
+		int parenthesisDepth = 0;
+		boolean publicModifier = false;
+		boolean afterDot = false;
+		while (!tracker.isDecided() && lexer.nextSignificant())
+		{
+			final boolean topLevel = braceDepth == 0 && parenthesisDepth == 0;
+			if (topLevel && !afterDot && isTypeKeyword(lexer))
+			{
+				final boolean isPublic = publicModifier;
+				if (lexer.nextSignificant() && lexer.kind() == TokenKind.IDENTIFIER)
+				{
+					tracker.accept(TypeDeclaration.of(lexer.text(), isPublic), lexer.text(), isPublic);
+				}
+				publicModifier = false;
+			}
+			else if (lexer.kind() == TokenKind.KEYWORD && lexer.textEquals("public"))
+			{
+				publicModifier = publicModifier || topLevel;
+			}
+			else if (lexer.kind() == TokenKind.SEPARATOR)
+			{
+				braceDepth += lexer.textEquals("{") ? 1 : lexer.textEquals("}") ? -1 : 0;
+				parenthesisDepth += lexer.textEquals("(") ? 1 : lexer.textEquals(")") ? -1 : 0;
+				publicModifier = publicModifier && !(lexer.textEquals(";") || lexer.textEquals("{")
+						|| lexer.textEquals("}"));
+			}
+			afterDot = lexer.textEquals(".");
+		}
+		return tracker;
 	}
 
-	private static Optional<TypeDeclaration> uniquePublicDeclarationFrom(
-			final Collection<TypeDeclaration> typeDeclarations)
+	// "sealed", "non-sealed" and annotations may sit between the modifiers and the keyword without affecting the scan;
+	// "@interface" is caught by its "interface" keyword
+	private static boolean isTypeKeyword(final JavaLexer lexer)
 	{
-		return containsAUniquePublicDeclaration(typeDeclarations) ? aPublicDeclarationFrom(typeDeclarations) :
-				Optional.empty();
-	}
-
-	private static Optional<TypeDeclaration> uniqueNonPublicDeclarationFrom(
-			final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return containsAUniqueNonPublicDeclaration(typeDeclarations) ? aNonPublicDeclarationFrom(typeDeclarations) :
-				Optional.empty();
+		return switch (lexer.kind())
+		{
+			case KEYWORD -> lexer.textEquals("class") || lexer.textEquals("interface") || lexer.textEquals("enum");
+			case IDENTIFIER -> lexer.textEquals("record");
+			default -> false;
+		};
 	}
 
 	public static boolean isTypeDeclaration(String line)
 	{
-		String pattern = "^(\\s*)(public\\s+|private\\s+|protected\\s+|static\\s+|final\\s+|abstract\\s+)*" +
-				"(class|interface|record)\\s+[A-Za-z0-9_$]+(<.*>)?";
-		return line.matches(pattern);
+		return TYPE_DECLARATION_LINE.matcher(line).matches();
 	}
 
 	public static TypeDeclaration parseTypeDeclaration(String line)
@@ -73,37 +94,6 @@ public final class CodeTypeAnalysisUtility
 					   .orElseThrow(() -> new IllegalArgumentException("Line cannot be null or blank"));
 	}
 
-	private static boolean containsAUniquePublicDeclaration(final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return typeDeclarations.stream()
-							   .filter(TypeDeclaration::isPublic)
-							   .distinct()
-							   .count() == 1;
-	}
-
-	private static Optional<TypeDeclaration> aPublicDeclarationFrom(final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return typeDeclarations.stream()
-							   .filter(TypeDeclaration::isPublic)
-							   .findFirst();
-	}
-
-	private static boolean containsAUniqueNonPublicDeclaration(final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return typeDeclarations.stream()
-							   .filter(td -> !td.isPublic())
-							   .distinct()
-							   .count() == 1;
-	}
-
-	private static Optional<TypeDeclaration> aNonPublicDeclarationFrom(
-			final Collection<TypeDeclaration> typeDeclarations)
-	{
-		return typeDeclarations.stream()
-							   .filter(td -> !td.isPublic())
-							   .findFirst();
-	}
-
 	private static Optional<String> extractTypeType(final String line)
 	{
 		Set<String> typeTypes = Set.of("class", "interface", "record");
@@ -123,4 +113,4 @@ public final class CodeTypeAnalysisUtility
 					   .map(array -> array[0])
 					   .orElseThrow(() -> new IllegalArgumentException("Line cannot be null or blank"));
 	}
-}
\ No newline at end of file
+}
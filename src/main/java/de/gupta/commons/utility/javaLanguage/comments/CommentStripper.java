@@ -0,0 +1,249 @@
+package de.gupta.commons.utility.javaLanguage.comments;
+
+// Character-at-a-time version of the JavaLexer rules CommentManager relies on, so input can arrive in arbitrary
+// buffers: everything it needs to remember between two characters is captured by State
+final class CommentStripper
+{
+	private final boolean stripLineComments;
+
+	private Mode mode;
+	private int depth;
+	private char pending;
+	private boolean escaped;
+	private int quoteRun;
+
+	CommentStripper(final boolean stripLineComments)
+	{
+		this(stripLineComments, State.INITIAL);
+	}
+
+	CommentStripper(final boolean stripLineComments, final State state)
+	{
+		this.stripLineComments = stripLineComments;
+		this.mode = state.mode();
+		this.depth = state.depth();
+		this.pending = state.pending();
+		this.escaped = state.escaped();
+		this.quoteRun = state.quoteRun();
+	}
+
+	State state()
+	{
+		return new State(mode, depth, pending, escaped, quoteRun);
+	}
+
+	void accept(final char[] buffer, final int offset, final int length, final StringBuilder out)
+	{
+		for (int i = offset, end = offset + length; i < end; i++)
+		{
+			accept(buffer[i], out);
+		}
+	}
+
+	void accept(final CharSequence text, final int start, final int end, final StringBuilder out)
+	{
+		for (int i = start; i < end; i++)
+		{
+			accept(text.charAt(i), out);
+		}
+	}
+
+	// Flushes a "/" that was held back in case it opened a comment
+	void finish(final StringBuilder out)
+	{
+		if (mode == Mode.SLASH)
+		{
+			out.append('/');
+			mode = Mode.CODE;
+		}
+	}
+
+	void accept(final char c, final StringBuilder out)
+	{
+		switch (mode)
+		{
+			case CODE -> code(c, out);
+			case SLASH -> slash(c, out);
+			case LINE_COMMENT -> lineComment(c, out);
+			case BLOCK_COMMENT -> blockComment(c);
+			case ONE_QUOTE -> oneQuote(c, out);
+			case TWO_QUOTES -> twoQuotes(c, out);
+			case STRING, CHARACTER -> quoted(c, out);
+			case TEXT_BLOCK -> textBlock(c, out);
+		}
+	}
+
+	private void code(final char c, final StringBuilder out)
+	{
+		switch (c)
+		{
+			case '/' -> mode = Mode.SLASH;
+			case '"' ->
+			{
+				out.append(c);
+				mode = Mode.ONE_QUOTE;
+			}
+			case '\'' ->
+			{
+				out.append(c);
+				mode = Mode.CHARACTER;
+				escaped = false;
+			}
+			default -> out.append(c);
+		}
+	}
+
+	private void slash(final char c, final StringBuilder out)
+	{
+		if (c == '*')
+		{
+			mode = Mode.BLOCK_COMMENT;
+			depth = 1;
+			pending = 0;
+		}
+		else if (c == '/')
+		{
+			mode = Mode.LINE_COMMENT;
+			if (!stripLineComments)
+			{
+				out.append("//");
+			}
+		}
+		else
+		{
+			out.append('/');
+			mode = Mode.CODE;
+			code(c, out);
+		}
+	}
+
+	private void lineComment(final char c, final StringBuilder out)
+	{
+		if (c == '\n' || c == '\r')
+		{
+			mode = Mode.CODE;
+			out.append(c);
+		}
+		else if (!stripLineComments)
+		{
+			out.append(c);
+		}
+	}
+
+	// Comments nest, matching CommentManager.removeBlockComments
+	private void blockComment(final char c)
+	{
+		if (pending == '*' && c == '/')
+		{
+			pending = 0;
+			if (--depth == 0)
+			{
+				mode = Mode.CODE;
+			}
+		}
+		else if (pending == '/' && c == '*')
+		{
+			pending = 0;
+			depth++;
+		}
+		else
+		{
+			// Only a '*' or '/' can pair with the next char; anything else is dropped so equal states compare equal
+			pending = c == '*' || c == '/' ? c : 0;
+		}
+	}
+
+	private void oneQuote(final char c, final StringBuilder out)
+	{
+		if (c == '"')
+		{
+			out.append(c);
+			mode = Mode.TWO_QUOTES;
+		}
+		else
+		{
+			mode = Mode.STRING;
+			escaped = false;
+			quoted(c, out);
+		}
+	}
+
+	private void twoQuotes(final char c, final StringBuilder out)
+	{
+		if (c == '"')
+		{
+			out.append(c);
+			mode = Mode.TEXT_BLOCK;
+			escaped = false;
+			quoteRun = 0;
+		}
+		else
+		{
+			mode = Mode.CODE;
+			code(c, out);
+		}
+	}
+
+	// An unterminated literal ends at the line terminator, as in JavaLexer
+	private void quoted(final char c, final StringBuilder out)
+	{
+		out.append(c);
+		if (escaped)
+		{
+			escaped = false;
+		}
+		else if (c == '\\')
+		{
+			escaped = true;
+		}
+		else if ((c == '"' && mode == Mode.STRING) || (c == '\'' && mode == Mode.CHARACTER) || c == '\n' || c == '\r')
+		{
+			mode = Mode.CODE;
+		}
+	}
+
+	private void textBlock(final char c, final StringBuilder out)
+	{
+		out.append(c);
+		if (escaped)
+		{
+			escaped = false;
+			quoteRun = 0;
+		}
+		else if (c == '\\')
+		{
+			escaped = true;
+			quoteRun = 0;
+		}
+		else if (c == '"')
+		{
+			if (++quoteRun == 3)
+			{
+				mode = Mode.CODE;
+				quoteRun = 0;
+			}
+		}
+		else
+		{
+			quoteRun = 0;
+		}
+	}
+
+	enum Mode
+	{
+		CODE,
+		SLASH,
+		LINE_COMMENT,
+		BLOCK_COMMENT,
+		ONE_QUOTE,
+		TWO_QUOTES,
+		STRING,
+		CHARACTER,
+		TEXT_BLOCK
+	}
+
+	record State(Mode mode, int depth, char pending, boolean escaped, int quoteRun)
+	{
+		static final State INITIAL = new State(Mode.CODE, 0, (char) 0, false, 0);
+	}
+}
@@ -0,0 +1,194 @@
+package de.gupta.commons.utility.javaLanguage.comments;
+
+// Classifies lines fed to it in order, remembering open block comments and text blocks between them. Lines inside a
+// text block are CODE, blank ones included, because they are part of a string literal. String and char literals end at
+// the end of their line, as in JavaLexer. Block comments nest only with withNestedComments(), the contract of
+// CommentManager; create() follows Java, where the first "*/" ends the comment
+public final class LineClassifier
+{
+	private final boolean nestedComments;
+	private Mode mode = Mode.CODE;
+	private int depth;
+
+	public static LineClassifier create()
+	{
+		return new LineClassifier(false);
+	}
+
+	public static LineClassifier withNestedComments()
+	{
+		return new LineClassifier(true);
+	}
+
+	public LineKind classify(final CharSequence line)
+	{
+		if (line == null)
+		{
+			throw new IllegalArgumentException("Line cannot be null");
+		}
+		return classify(line, 0, line.length());
+	}
+
+	// The range must not contain a line terminator other than a trailing one
+	public LineKind classify(final CharSequence text, final int start, final int end)
+	{
+		if (text == null || start < 0 || end > text.length() || start > end)
+		{
+			throw new IllegalArgumentException("Invalid line range [" + start + ", " + end + ")");
+		}
+
+		boolean hasCode = mode == Mode.TEXT_BLOCK;
+		boolean hasComment = mode == Mode.BLOCK_COMMENT;
+		boolean escaped = false;
+		int quoteRun = 0;
+
+		int i = start;
+		while (i < end)
+		{
+			final char c = text.charAt(i);
+			final char next = i + 1 < end ? text.charAt(i + 1) : 0;
+			switch (mode)
+			{
+				case CODE ->
+				{
+					if (c == '/' && next == '/')
+					{
+						return hasCode ? LineKind.MIXED : LineKind.COMMENT;
+					}
+					if (c == '/' && next == '*')
+					{
+						hasComment = true;
+						mode = Mode.BLOCK_COMMENT;
+						depth = 1;
+						i++;
+					}
+					else if (c == '"' && next == '"' && i + 2 < end && text.charAt(i + 2) == '"')
+					{
+						hasCode = true;
+						mode = Mode.TEXT_BLOCK;
+						i += 2;
+					}
+					else if (c == '"' || c == '\'')
+					{
+						hasCode = true;
+						mode = c == '"' ? Mode.STRING : Mode.CHARACTER;
+					}
+					else if (!Character.isWhitespace(c))
+					{
+						hasCode = true;
+					}
+				}
+				case BLOCK_COMMENT ->
+				{
+					if (c == '*' && next == '/')
+					{
+						mode = --depth == 0 ? Mode.CODE : Mode.BLOCK_COMMENT;
+						i++;
+					}
+					else if (nestedComments && c == '/' && next == '*')
+					{
+						depth++;
+						i++;
+					}
+				}
+				case STRING, CHARACTER ->
+				{
+					if (escaped)
+					{
+						escaped = false;
+					}
+					else if (c == '\\')
+					{
+						escaped = true;
+					}
+					else if (c == (mode == Mode.STRING ? '"' : '\''))
+					{
+						mode = Mode.CODE;
+					}
+				}
+				case TEXT_BLOCK ->
+				{
+					if (escaped)
+					{
+						escaped = false;
+						quoteRun = 0;
+					}
+					else if (c == '\\')
+					{
+						escaped = true;
+						quoteRun = 0;
+					}
+					else if (c == '"' && ++quoteRun == 3)
+					{
+						mode = Mode.CODE;
+						quoteRun = 0;
+					}
+					else if (c != '"')
+					{
+						quoteRun = 0;
+					}
+				}
+			}
+			i++;
+		}
+
+		if (mode == Mode.STRING || mode == Mode.CHARACTER)
+		{
+			mode = Mode.CODE;
+		}
+
+		if (hasCode)
+		{
+			return hasComment ? LineKind.MIXED : LineKind.CODE;
+		}
+		return hasComment ? LineKind.COMMENT : LineKind.BLANK;
+	}
+
+	public boolean isInBlockComment()
+	{
+		return mode == Mode.BLOCK_COMMENT;
+	}
+
+	public boolean isInTextBlock()
+	{
+		return mode == Mode.TEXT_BLOCK;
+	}
+
+	public void reset()
+	{
+		mode = Mode.CODE;
+		depth = 0;
+	}
+
+	private LineClassifier(final boolean nestedComments)
+	{
+		this.nestedComments = nestedComments;
+	}
+
+	public enum LineKind
+	{
+		BLANK,
+		CODE,
+		COMMENT,
+		MIXED;
+
+		public boolean hasCode()
+		{
+			return this == CODE || this == MIXED;
+		}
+
+		public boolean hasComment()
+		{
+			return this == COMMENT || this == MIXED;
+		}
+	}
+
+	private enum Mode
+	{
+		CODE,
+		BLOCK_COMMENT,
+		STRING,
+		CHARACTER,
+		TEXT_BLOCK
+	}
+}
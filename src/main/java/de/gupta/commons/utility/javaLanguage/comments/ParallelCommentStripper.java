@@ -0,0 +1,283 @@
+package de.gupta.commons.utility.javaLanguage.comments;
+
+import de.gupta.commons.utility.javaLanguage.comments.CommentStripper.Mode;
+import de.gupta.commons.utility.javaLanguage.comments.CommentStripper.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Chunks are cut just after a '\n', where the stripper is in code, a string or character literal, a text block, or a
+// block comment of some depth. Each chunk is lexed from every one of these in lockstep and runs whose states become
+// equal are merged at the next line end. Literal runs usually converge within the first line; a text block or comment
+// run only converges once its delimiter closes, so a chunk without """ or */ answers those starts without lexing
+final class ParallelCommentStripper
+{
+	private static final int MIN_CHUNK_SIZE = 1 << 16;
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private static final String TEXT_BLOCK_DELIMITER = "\"\"\"";
+	private static final String COMMENT_END = "*/";
+	private static final String COMMENT_START = "/*";
+
+	private static final State TEXT_BLOCK_LINE_START = new State(Mode.TEXT_BLOCK, 0, (char) 0, false, 0);
+	private static final State COMMENT_LINE_START = new State(Mode.BLOCK_COMMENT, 1, (char) 0, false, 0);
+	private static final List<State> LITERAL_LINE_START_STATES = List.of(
+			State.INITIAL,
+			new State(Mode.STRING, 0, (char) 0, false, 0),
+			new State(Mode.CHARACTER, 0, (char) 0, false, 0)
+	);
+
+	static String strip(final String content, final boolean stripLineComments)
+	{
+		return strip(content, stripLineComments, MIN_CHUNK_SIZE);
+	}
+
+	static String strip(final String content, final boolean stripLineComments, final int minChunkSize)
+	{
+		final int[] boundaries = boundaries(content, minChunkSize);
+		final List<Speculation> speculations =
+				IntStream.range(0, boundaries.length - 1)
+						 .parallel()
+						 .mapToObj(chunk -> Speculation.run(content, boundaries[chunk], boundaries[chunk + 1],
+								 chunk == 0, stripLineComments))
+						 .toList();
+
+		// Stitching is sequential but cheap: each chunk only looks up the run that started in the true state
+		final StringBuilder result = new StringBuilder(content.length());
+		State state = State.INITIAL;
+		for (final Speculation speculation : speculations)
+		{
+			final Outcome outcome = speculation.outcomeFor(state);
+			result.append(outcome.output());
+			state = outcome.endState();
+		}
+		new CommentStripper(stripLineComments, state).finish(result);
+		return result.toString();
+	}
+
+	// Every boundary lies just after a '\n'; a line longer than a chunk stays in one chunk
+	private static int[] boundaries(final String content, final int minChunkSize)
+	{
+		final int length = content.length();
+		final int targetChunks = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+		final int chunkSize = Math.max(minChunkSize, (length + targetChunks - 1) / targetChunks);
+
+		final List<Integer> boundaries = new ArrayList<>();
+		boundaries.add(0);
+		int newline = content.indexOf('\n', chunkSize - 1);
+		while (newline >= 0 && newline + 1 < length)
+		{
+			boundaries.add(newline + 1);
+			newline = content.indexOf('\n', newline + chunkSize);
+		}
+		boundaries.add(length);
+		return boundaries.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	// The state after the chunk's last line, lexed from the state every line of that kind starts in
+	private static State endState(final String content, final int start, final int end, final State lineStart,
+								  final boolean stripLineComments)
+	{
+		final CommentStripper stripper = new CommentStripper(stripLineComments, lineStart);
+		stripper.accept(content, Math.max(start, content.lastIndexOf('\n', end - 1) + 1), end, new StringBuilder());
+		return stripper.state();
+	}
+
+	private static int count(final String content, final String text, final int start, final int end)
+	{
+		int count = 0;
+		for (int index = content.indexOf(text, start, end); index >= 0;
+			 index = content.indexOf(text, index + text.length(), end))
+		{
+			count++;
+		}
+		return count;
+	}
+
+	private ParallelCommentStripper()
+	{
+	}
+
+	private record Outcome(CharSequence output, State endState)
+	{
+	}
+
+	private static final class Speculation
+	{
+		private final List<Run> runs = new ArrayList<>();
+		private Outcome textBlock;
+		// A comment that opened before the chunk at depth n ends at its n-th new low of the depth relative to the
+		// chunk start; from there it is code again, lexed by the run recorded for that exit
+		private final List<Integer> commentExits = new ArrayList<>();
+		private int commentDepth;
+		private char commentPending;
+
+		private static Speculation run(final String content, final int start, final int end, final boolean isFirst,
+									   final boolean stripLineComments)
+		{
+			final Speculation speculation = new Speculation();
+			if (isFirst)
+			{
+				speculation.runs.add(new Run(State.INITIAL, new CommentStripper(stripLineComments)));
+				speculation.lex(content, start, end, false, stripLineComments);
+				return speculation;
+			}
+
+			LITERAL_LINE_START_STATES.forEach(state -> speculation.runs.add(
+					new Run(state, new CommentStripper(stripLineComments, state))));
+			if (content.indexOf(TEXT_BLOCK_DELIMITER, start, end) < 0)
+			{
+				// Nothing can close the text block: the chunk is copied unchanged
+				speculation.textBlock = new Outcome(content.subSequence(start, end),
+						endState(content, start, end, TEXT_BLOCK_LINE_START, stripLineComments));
+			}
+			else
+			{
+				speculation.runs.add(new Run(TEXT_BLOCK_LINE_START,
+						new CommentStripper(stripLineComments, TEXT_BLOCK_LINE_START)));
+			}
+
+			final boolean commentCanEnd = content.indexOf(COMMENT_END, start, end) >= 0;
+			if (!commentCanEnd)
+			{
+				// Nothing can close the comment: every depth drops the whole chunk and only nests further
+				speculation.commentDepth = count(content, COMMENT_START, start, end);
+				speculation.commentPending = endState(content, start, end, COMMENT_LINE_START, stripLineComments)
+						.pending();
+			}
+			speculation.lex(content, start, end, commentCanEnd, stripLineComments);
+			return speculation;
+		}
+
+		private void lex(final String content, final int start, final int end, final boolean trackComment,
+						 final boolean stripLineComments)
+		{
+			for (int i = start; i < end; i++)
+			{
+				final char c = content.charAt(i);
+				for (final Run run : runs)
+				{
+					if (run.target < 0)
+					{
+						run.stripper.accept(c, run.output);
+					}
+				}
+				if (trackComment)
+				{
+					trackComment(c, stripLineComments);
+				}
+				// Equal states stay equal, so checking once per line is enough to catch every convergence
+				if (c == '\n')
+				{
+					merge();
+				}
+			}
+		}
+
+		// Mirrors CommentStripper's block comment rules without a fixed depth
+		private void trackComment(final char c, final boolean stripLineComments)
+		{
+			if (commentPending == '*' && c == '/')
+			{
+				commentPending = 0;
+				if (--commentDepth < -commentExits.size())
+				{
+					commentExits.add(runs.size());
+					runs.add(new Run(null, new CommentStripper(stripLineComments)));
+				}
+			}
+			else if (commentPending == '/' && c == '*')
+			{
+				commentPending = 0;
+				commentDepth++;
+			}
+			else
+			{
+				commentPending = c == '*' || c == '/' ? c : 0;
+			}
+		}
+
+		private void merge()
+		{
+			for (int j = 1; j < runs.size(); j++)
+			{
+				final Run later = runs.get(j);
+				if (later.target >= 0)
+				{
+					continue;
+				}
+				for (int k = 0; k < j; k++)
+				{
+					final Run earlier = runs.get(k);
+					if (earlier.target < 0 && earlier.stripper.state().equals(later.stripper.state()))
+					{
+						later.target = k;
+						later.targetOffset = earlier.output.length();
+						break;
+					}
+				}
+			}
+		}
+
+		private Outcome outcomeFor(final State state)
+		{
+			if (state.mode() == Mode.BLOCK_COMMENT)
+			{
+				return commentOutcome(state.depth());
+			}
+			if (textBlock != null && state.equals(TEXT_BLOCK_LINE_START))
+			{
+				return textBlock;
+			}
+			for (int index = 0; index < runs.size(); index++)
+			{
+				if (state.equals(runs.get(index).start))
+				{
+					return outcome(index);
+				}
+			}
+			// Chunks start after a '\n', and every state the stripper can be in there is speculated on
+			throw new IllegalStateException("No speculation for " + state);
+		}
+
+		private Outcome commentOutcome(final int depth)
+		{
+			if (depth <= commentExits.size())
+			{
+				return outcome(commentExits.get(depth - 1));
+			}
+			return new Outcome("", new State(Mode.BLOCK_COMMENT, depth + commentDepth, commentPending, false, 0));
+		}
+
+		private Outcome outcome(final int index)
+		{
+			final Run run = runs.get(index);
+			if (run.target < 0)
+			{
+				return new Outcome(run.output, run.stripper.state());
+			}
+
+			final Outcome merged = outcome(run.target);
+			final StringBuilder output = new StringBuilder(run.output.length() + merged.output().length());
+			output.append(run.output).append(merged.output(), run.targetOffset, merged.output().length());
+			return new Outcome(output, merged.endState());
+		}
+	}
+
+	private static final class Run
+	{
+		private final State start;
+		private final CommentStripper stripper;
+		private final StringBuilder output = new StringBuilder();
+		private int target = -1;
+		private int targetOffset;
+
+		private Run(final State start, final CommentStripper stripper)
+		{
+			this.start = start;
+			this.stripper = stripper;
+		}
+	}
+}
@@ -1,15 +1,22 @@
 package de.gupta.commons.utility.javaLanguage.packages;
 
-import de.gupta.commons.utility.javaLanguage.comments.CommentManager;
+import de.gupta.commons.utility.javaLanguage.JavaLexer;
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
 import de.gupta.commons.utility.string.StringSanitizationUtility;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class PackageExtractor
 {
+	private static final int HEADER_BYTES = 8 * 1024;
+
 	public static String extractBasePackageName(final String classContent, final String currentPackage)
 	{
 		return Optional.of(PackageExtractor.extractPackageName(classContent))
@@ -30,25 +37,128 @@ public final class PackageExtractor
 
 	public static String extractPackageName(final String classContent)
 	{
-		final Pattern packagePattern = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;.*$");
-
 		return Optional.ofNullable(classContent)
 					   .filter(StringSanitizationUtility::isStringNonEmpty)
-					   .filter(s -> s.contains("package"))
-					   .map(String::trim)
-					   .map(CommentManager::removeBlockComments)
-					   .map(StringSanitizationUtility::breakIntoLines)
-					   .stream()
-					   .flatMap(Arrays::stream)
-					   .filter(CommentManager::doesLineNotStartWithAComment)
-					   .map(packagePattern::matcher)
-					   .filter(Matcher::matches)
-					   .map(m -> m.group(1))
-					   .findFirst()
+					   .map(PackageExtractor::scanHeader)
+					   .flatMap(HeaderScan::packageName)
 					   .orElseThrow(() -> new IllegalArgumentException("No package found in the given class content"));
 	}
 
+	public static String extractPackageName(final Path sourceFile)
+	{
+		if (sourceFile == null)
+		{
+			throw new IllegalArgumentException("Source file cannot be null");
+		}
+
+		try (InputStream input = Files.newInputStream(sourceFile))
+		{
+			final byte[] header = input.readNBytes(HEADER_BYTES);
+			HeaderScan scan = scanHeader(new String(header, StandardCharsets.UTF_8));
+			// Only a header longer than the window, such as a very long licence comment, costs a full read
+			if (!scan.decided() && header.length == HEADER_BYTES)
+			{
+				final byte[] rest = input.readAllBytes();
+				final byte[] content = Arrays.copyOf(header, header.length + rest.length);
+				System.arraycopy(rest, 0, content, header.length, rest.length);
+				scan = scanHeader(new String(content, StandardCharsets.UTF_8));
+			}
+			return scan.packageName()
+					   .orElseThrow(() -> new IllegalArgumentException("No package found in " + sourceFile));
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// A declaration counts only when "package" is the first code on its line and the name and ";" follow on that line.
+	// The scan stops at the package declaration or at the start of the first type, whichever comes first.
+	private static HeaderScan scanHeader(final String content)
+	{
+		final JavaLexer lexer = JavaLexer.of(content);
+		boolean lineHasCode = false;
+		while (lexer.next())
+		{
+			if (lexer.kind() == TokenKind.LINE_TERMINATOR)
+			{
+				lineHasCode = false;
+			}
+			else if (lexer.isSignificant())
+			{
+				if (startsTypeDeclaration(lexer))
+				{
+					return HeaderScan.NO_PACKAGE;
+				}
+				if (!lineHasCode && lexer.kind() == TokenKind.KEYWORD && lexer.textEquals("package"))
+				{
+					final Optional<String> packageName = packageNameAfter(lexer, content);
+					if (packageName.isPresent())
+					{
+						return new HeaderScan(packageName, true);
+					}
+					lineHasCode = lexer.kind() != TokenKind.LINE_TERMINATOR;
+				}
+				else
+				{
+					lineHasCode = true;
+				}
+			}
+		}
+		return HeaderScan.UNDECIDED;
+	}
+
+	private static boolean startsTypeDeclaration(final JavaLexer lexer)
+	{
+		return switch (lexer.kind())
+		{
+			case KEYWORD -> lexer.textEquals("class") || lexer.textEquals("interface") || lexer.textEquals("enum");
+			case SEPARATOR -> lexer.textEquals("{");
+			default -> false;
+		};
+	}
+
+	private static Optional<String> packageNameAfter(final JavaLexer lexer, final String content)
+	{
+		final StringBuilder packageName = new StringBuilder();
+		boolean expectingSegment = true;
+		while (lexer.next())
+		{
+			if (lexer.kind() == TokenKind.LINE_TERMINATOR)
+			{
+				return Optional.empty();
+			}
+			if (!lexer.isSignificant())
+			{
+				continue;
+			}
+
+			if (expectingSegment && lexer.kind() == TokenKind.IDENTIFIER)
+			{
+				packageName.append(content, lexer.start(), lexer.end());
+				expectingSegment = false;
+			}
+			else if (!expectingSegment && lexer.textEquals("."))
+			{
+				packageName.append('.');
+				expectingSegment = true;
+			}
+			else
+			{
+				return !expectingSegment && lexer.textEquals(";") ? Optional.of(packageName.toString()) :
+						Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
 	private PackageExtractor()
 	{
 	}
+
+	private record HeaderScan(Optional<String> packageName, boolean decided)
+	{
+		private static final HeaderScan NO_PACKAGE = new HeaderScan(Optional.empty(), true);
+		private static final HeaderScan UNDECIDED = new HeaderScan(Optional.empty(), false);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package de.gupta.commons.utility.javaLanguage.packages;
+
+import de.gupta.commons.utility.javaLanguage.SourceTreeWalker;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class PackageIndex
+{
+	public static final int DEFAULT_CONCURRENCY = 64;
+
+	private final Path root;
+	private final Map<String, List<Path>> filesByPackage;
+	private final List<Mismatch> mismatches;
+	private final List<Path> unresolved;
+	private final List<Path> unreadable;
+
+	public static PackageIndex of(final Path root)
+	{
+		return of(root, DEFAULT_CONCURRENCY);
+	}
+
+	public static PackageIndex of(final Path root, final int maxConcurrency)
+	{
+		if (root == null || !Files.isDirectory(root))
+		{
+			throw new IllegalArgumentException("Root must be an existing directory");
+		}
+		if (maxConcurrency < 1)
+		{
+			throw new IllegalArgumentException("Maximum concurrency must be at least 1");
+		}
+
+		final Path normalizedRoot = root.toAbsolutePath().normalize();
+		final Map<String, List<Path>> filesByPackage = new ConcurrentHashMap<>();
+		final ConcurrentLinkedQueue<Mismatch> mismatches = new ConcurrentLinkedQueue<>();
+		final ConcurrentLinkedQueue<Path> unresolved = new ConcurrentLinkedQueue<>();
+
+		final List<Path> unreadable = SourceTreeWalker.walk(normalizedRoot, maxConcurrency,
+				file -> index(file, filesByPackage, mismatches, unresolved));
+
+		return new PackageIndex(normalizedRoot, sorted(filesByPackage),
+				mismatches.stream().sorted(Comparator.comparing(Mismatch::file)).toList(),
+				unresolved.stream().sorted().toList(), unreadable.stream().sorted().toList());
+	}
+
+	public Path root()
+	{
+		return root;
+	}
+
+	public Map<String, List<Path>> filesByPackage()
+	{
+		return filesByPackage;
+	}
+
+	public List<Path> filesIn(final String packageName)
+	{
+		return filesByPackage.getOrDefault(packageName, List.of());
+	}
+
+	public List<Mismatch> mismatches()
+	{
+		return mismatches;
+	}
+
+	public List<Path> unresolved()
+	{
+		return unresolved;
+	}
+
+	// Files and directories the walk could not read; whatever they contain is missing from the index
+	public List<Path> unreadable()
+	{
+		return unreadable;
+	}
+
+	private static void index(final Path file, final Map<String, List<Path>> filesByPackage,
+							  final ConcurrentLinkedQueue<Mismatch> mismatches,
+							  final ConcurrentLinkedQueue<Path> unresolved)
+	{
+		final String packageName;
+		try
+		{
+			packageName = PackageExtractor.extractPackageName(file);
+		}
+		catch (IllegalArgumentException | UncheckedIOException e)
+		{
+			unresolved.add(file);
+			return;
+		}
+
+		filesByPackage.compute(packageName, (_, files) -> append(files, file));
+		// Packages that PackagePathManager rejects have no path, so they cannot be reported as misplaced
+		packagePath(packageName).filter(expected -> !isInPackageDirectory(file.getParent(), packageName, expected))
+								.ifPresent(expected -> mismatches.add(new Mismatch(file, packageName, expected)));
+	}
+
+	// The root may hold several source roots, as in a multi-module build, so the source root is taken to be where the
+	// package path would begin; the directory is right when PackagePathManager maps it back to the declared package
+	private static boolean isInPackageDirectory(final Path directory, final String packageName,
+												final Path packagePath)
+	{
+		final int sourceRootDepth = directory.getNameCount() - packagePath.getNameCount();
+		if (sourceRootDepth < 0)
+		{
+			return false;
+		}
+		final Path sourceRoot = sourceRootDepth == 0 ? directory.getRoot() :
+				directory.getRoot().resolve(directory.subpath(0, sourceRootDepth));
+		return PackagePathManager.packageName(sourceRoot, directory).filter(packageName::equals).isPresent();
+	}
+
+	private static Optional<Path> packagePath(final String packageName)
+	{
+		try
+		{
+			return Optional.of(Path.of(PackagePathManager.packagePath(packageName)));
+		}
+		catch (IllegalArgumentException e)
+		{
+			return Optional.empty();
+		}
+	}
+
+	private static List<Path> append(final List<Path> files, final Path file)
+	{
+		final List<Path> result = files == null ? new ArrayList<>() : files;
+		result.add(file);
+		return result;
+	}
+
+	private static Map<String, List<Path>> sorted(final Map<String, List<Path>> filesByPackage)
+	{
+		final Map<String, List<Path>> result = new TreeMap<>();
+		filesByPackage.forEach((packageName, files) -> result.put(packageName, files.stream().sorted().toList()));
+		return Collections.unmodifiableMap(result);
+	}
+
+	private PackageIndex(final Path root, final Map<String, List<Path>> filesByPackage,
+						 final List<Mismatch> mismatches, final List<Path> unresolved, final List<Path> unreadable)
+	{
+		this.root = root;
+		this.filesByPackage = filesByPackage;
+		this.mismatches = mismatches;
+		this.unresolved = unresolved;
+		this.unreadable = unreadable;
+	}
+
+	// packagePath is the relative path, such as com/example, that the directory of the file should end with
+	public record Mismatch(Path file, String declaredPackage, Path packagePath)
+	{
+		public Path actualDirectory()
+		{
+			return file.getParent();
+		}
+	}
+}
@@ -1,64 +1,136 @@
 package de.gupta.commons.utility.javaLanguage.packages;
 
-import de.gupta.commons.utility.string.StringSanitizationUtility;
+import de.gupta.commons.utility.javaLanguage.JavaLexer;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 
 public final class PackageNameValidator
 {
+	private static final byte OTHER = 0;
+	private static final byte LETTER = 1;
+	private static final byte DIGIT = 2;
+	private static final byte UNDERSCORE = 3;
+	private static final byte PERIOD = 4;
+
+	private static final byte[] CHARACTER_CLASSES = characterClasses();
+
 	public static boolean isValidJavaPackageName(final String packageName)
 	{
-		return Optional.ofNullable(packageName)
-					   .filter(StringSanitizationUtility::isStringNonBlank)
-					   .filter(PackageNameValidator::containsNoSpaces)
-					   .filter(PackageNameValidator::onlyContainsAllowedCharacters)
-					   .filter(PackageNameValidator::hasNoConsecutivePeriods)
-					   .filter(PackageNameValidator::doesNotEndsWithPeriod)
-					   .filter(PackageNameValidator::doesNotEndWithUnderscore)
-					   .filter(PackageNameValidator::startsWithLetter)
-					   .filter(PackageNameValidator::eachSegmentStartsWithLetter)
-					   .isPresent();
+		return check(packageName, false);
 	}
 
-	private static boolean containsNoSpaces(final String packageName)
+	// Also rejects segments that are reserved words, such as "com.example.new", which pass isValidJavaPackageName but
+	// cannot be compiled
+	public static boolean isCompilableJavaPackageName(final String packageName)
 	{
-		return !packageName.contains(" ");
+		return check(packageName, true);
 	}
 
-	private static boolean onlyContainsAllowedCharacters(final String packageName)
+	public static BitSet validateAll(final List<String> packageNames)
 	{
-		return packageName.matches("[a-zA-Z0-9._]+");
+		return validateAll(packageNames, false);
 	}
 
-	private static boolean hasNoConsecutivePeriods(final String packageName)
+	// Bit i is set when the i-th name is valid; nothing is allocated per name. Rejecting reserved words applies the
+	// rules of isCompilableJavaPackageName
+	public static BitSet validateAll(final List<String> packageNames, final boolean rejectReservedWords)
 	{
-		return !packageName.matches(".*\\.\\..*");
+		if (packageNames == null)
+		{
+			throw new IllegalArgumentException("Package names cannot be null");
+		}
+
+		final BitSet valid = new BitSet(packageNames.size());
+		int index = 0;
+		for (final String packageName : packageNames)
+		{
+			if (check(packageName, rejectReservedWords))
+			{
+				valid.set(index);
+			}
+			index++;
+		}
+		return valid;
 	}
 
-	private static boolean doesNotEndsWithPeriod(final String packageName)
+	public static List<String> findInvalidPackageNames(final Collection<String> packageNames)
 	{
-		return !packageName.endsWith(".");
+		return findInvalidPackageNames(packageNames, false);
 	}
 
-	private static boolean doesNotEndWithUnderscore(final String packageName)
+	public static List<String> findInvalidPackageNames(final Collection<String> packageNames,
+													   final boolean rejectReservedWords)
 	{
-		return !packageName.endsWith("_");
+		if (packageNames == null)
+		{
+			throw new IllegalArgumentException("Package names cannot be null");
+		}
+
+		final List<String> invalid = new ArrayList<>();
+		for (final String packageName : packageNames)
+		{
+			if (!check(packageName, rejectReservedWords))
+			{
+				invalid.add(packageName);
+			}
+		}
+		return invalid;
 	}
 
-	private static boolean startsWithLetter(final String packageName)
+	// One pass checks every rule: segments are ASCII letters, digits and underscores and start with a letter, and the
+	// name ends with neither a period nor an underscore
+	private static boolean check(final String packageName, final boolean rejectReservedWords)
 	{
-		return packageName.matches("^[a-zA-Z].*");
+		if (packageName == null || packageName.isEmpty())
+		{
+			return false;
+		}
+
+		int segmentStart = 0;
+		final int length = packageName.length();
+		for (int i = 0; i < length; i++)
+		{
+			final char c = packageName.charAt(i);
+			final byte characterClass = c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : OTHER;
+			if (i == segmentStart ? characterClass != LETTER : characterClass == OTHER)
+			{
+				return false;
+			}
+			if (characterClass == PERIOD)
+			{
+				if (rejectReservedWords && JavaLexer.isKeyword(packageName, segmentStart, i))
+				{
+					return false;
+				}
+				segmentStart = i + 1;
+			}
+		}
+
+		return segmentStart < length && packageName.charAt(length - 1) != '_'
+				&& !(rejectReservedWords && JavaLexer.isKeyword(packageName, segmentStart, length));
 	}
 
-	private static boolean eachSegmentStartsWithLetter(final String packageName)
+	private static byte[] characterClasses()
 	{
-		return Arrays.stream(packageName.split("\\."))
-					 .allMatch(segment -> StringSanitizationUtility.isStringNonBlank(segment) && Character.isLetter(
-							 segment.charAt(0)));
+		final byte[] classes = new byte[128];
+		for (char c = 'a'; c <= 'z'; c++)
+		{
+			classes[c] = LETTER;
+			classes[Character.toUpperCase(c)] = LETTER;
+		}
+		for (char c = '0'; c <= '9'; c++)
+		{
+			classes[c] = DIGIT;
+		}
+		classes['_'] = UNDERSCORE;
+		classes['.'] = PERIOD;
+		return classes;
 	}
 
 	private PackageNameValidator()
 	{
 	}
-}
\ No newline at end of file
+}
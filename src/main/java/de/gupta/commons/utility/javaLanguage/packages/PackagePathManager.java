@@ -1,22 +1,97 @@
 package de.gupta.commons.utility.javaLanguage.packages;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class PackagePathManager
 {
 	private static final String subPackageSeparator = ".";
 	private static final String pathSeparator = File.separator;
+	private static final int cacheCapacity = 4096;
+
+	// Only validated mappings are remembered, so invalid input cannot fill the caches
+	private static final Map<String, String> pathsByPackage = new ConcurrentHashMap<>();
+	private static final Map<DirectoryKey, String> packagesByDirectory = new ConcurrentHashMap<>();
 
 	public static String packagePath(final String packageName)
 	{
+		final String cached = packageName == null ? null : pathsByPackage.get(packageName);
+		if (cached != null)
+		{
+			return cached;
+		}
+
 		return Optional.ofNullable(packageName)
 					   .filter(PackageNameValidator::isValidJavaPackageName)
-					   .map(p -> p.replace(subPackageSeparator, pathSeparator))
+					   .map(p -> remember(pathsByPackage, p, p.replace(subPackageSeparator, pathSeparator)))
 					   .orElseThrow(() -> new IllegalArgumentException("Invalid package name"));
 	}
 
+	public static Path packageDirectory(final Path sourceRoot, final String packageName)
+	{
+		if (sourceRoot == null)
+		{
+			throw new IllegalArgumentException("Source root cannot be null");
+		}
+		return sourceRoot.resolve(packagePath(packageName));
+	}
+
+	// The package a directory below the source root stands for; empty for the root itself, for directories outside it
+	// and for directory names that are not a valid package
+	public static Optional<String> packageName(final Path sourceRoot, final Path directory)
+	{
+		if (sourceRoot == null || directory == null)
+		{
+			throw new IllegalArgumentException("Source root and directory cannot be null");
+		}
+
+		// Keyed by the paths as given, so a hit costs two hash lookups and no path normalisation
+		final DirectoryKey key = new DirectoryKey(sourceRoot, directory);
+		final String cached = packagesByDirectory.get(key);
+		if (cached != null)
+		{
+			return Optional.of(cached);
+		}
+
+		final Path root = sourceRoot.toAbsolutePath().normalize();
+		final Path target = directory.toAbsolutePath().normalize();
+		if (!target.startsWith(root) || target.equals(root))
+		{
+			return Optional.empty();
+		}
+
+		final Path relative = root.relativize(target);
+
+		final StringBuilder packageName = new StringBuilder();
+		for (final Path segment : relative)
+		{
+			packageName.append(packageName.isEmpty() ? "" : subPackageSeparator).append(segment);
+		}
+		return Optional.of(packageName.toString())
+					   .filter(PackageNameValidator::isValidJavaPackageName)
+					   .map(p -> remember(packagesByDirectory, key, p));
+	}
+
+	// Generated code uses a few hundred packages; should a caller exceed the bound, starting over is cheaper than
+	// tracking recency on every hit
+	private static <K> String remember(final Map<K, String> cache, final K key, final String value)
+	{
+		if (cache.size() >= cacheCapacity)
+		{
+			cache.clear();
+		}
+		final String previous = cache.putIfAbsent(key, value);
+		return previous == null ? value : previous;
+	}
+
 	private PackagePathManager()
 	{
 	}
-}
\ No newline at end of file
+
+	private record DirectoryKey(Path sourceRoot, Path directory)
+	{
+	}
+}
@@ -0,0 +1,330 @@
+package de.gupta.commons.utility.javaLanguage.packages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class QualifiedNameTrie
+{
+	private static final char SEGMENT_SEPARATOR = '.';
+	private static final String[] NO_SEGMENTS = new String[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+
+	// Segments such as "de", "gupta" or "utility" are stored once and shared by every edge that uses them
+	private final Map<String, String> segmentPool = new HashMap<>();
+	private final Node root = new Node(NO_SEGMENTS);
+
+	public static QualifiedNameTrie of(final Collection<String> names)
+	{
+		if (names == null)
+		{
+			throw new IllegalArgumentException("Names cannot be null");
+		}
+
+		final QualifiedNameTrie trie = new QualifiedNameTrie();
+		names.forEach(trie::add);
+		return trie;
+	}
+
+	public static QualifiedNameTrie empty()
+	{
+		return new QualifiedNameTrie();
+	}
+
+	public boolean add(final String name)
+	{
+		final String[] segments = segmentsOf(name, false);
+		if (contains(segments))
+		{
+			return false;
+		}
+
+		Node node = root;
+		node.size++;
+		int position = 0;
+		while (position < segments.length)
+		{
+			final int childIndex = node.indexOf(segments[position]);
+			if (childIndex < 0)
+			{
+				node.insertChild(-childIndex - 1, new Node(pooled(segments, position, segments.length)));
+				node = node.children[-childIndex - 1];
+				node.size++;
+				position = segments.length;
+				break;
+			}
+
+			Node child = node.children[childIndex];
+			final int common = commonLength(child.label, segments, position);
+			if (common < child.label.length)
+			{
+				child = splitEdge(node, childIndex, common);
+			}
+			node = child;
+			node.size++;
+			position += common;
+		}
+		node.terminal = true;
+		return true;
+	}
+
+	public boolean contains(final String name)
+	{
+		return name != null && contains(segmentsOf(name, false));
+	}
+
+	public int size()
+	{
+		return root.size;
+	}
+
+	public int countWithPrefix(final String prefix)
+	{
+		return locate(segmentsOf(prefix, true)).map(node -> node.size).orElse(0);
+	}
+
+	public List<String> withPrefix(final String prefix)
+	{
+		final String[] segments = segmentsOf(prefix, true);
+		final List<String> result = new ArrayList<>();
+
+		locatePath(segments).ifPresent(path ->
+		{
+			final StringBuilder name = new StringBuilder(path.name());
+			collect(path.node(), name, result);
+		});
+		return result;
+	}
+
+	public Optional<String> longestPrefixOf(final String name)
+	{
+		final String[] segments = segmentsOf(name, false);
+
+		Node node = root;
+		int position = 0;
+		int longest = -1;
+		while (true)
+		{
+			if (node.terminal)
+			{
+				longest = position;
+			}
+			if (position == segments.length)
+			{
+				break;
+			}
+
+			final int childIndex = node.indexOf(segments[position]);
+			if (childIndex < 0)
+			{
+				break;
+			}
+
+			final Node child = node.children[childIndex];
+			if (commonLength(child.label, segments, position) < child.label.length)
+			{
+				break;
+			}
+			node = child;
+			position += child.label.length;
+		}
+
+		return longest <= 0 ? Optional.empty() : Optional.of(String.join(".", Arrays.copyOf(segments, longest)));
+	}
+
+	private boolean contains(final String[] segments)
+	{
+		return locatePath(segments).filter(located -> located.node().terminal)
+								   .filter(Located::exact)
+								   .isPresent();
+	}
+
+	private Optional<Node> locate(final String[] segments)
+	{
+		return locatePath(segments).map(Located::node);
+	}
+
+	private Optional<Located> locatePath(final String[] segments)
+	{
+		Node node = root;
+		int position = 0;
+		final StringBuilder name = new StringBuilder();
+
+		while (position < segments.length)
+		{
+			final int childIndex = node.indexOf(segments[position]);
+			if (childIndex < 0)
+			{
+				return Optional.empty();
+			}
+
+			final Node child = node.children[childIndex];
+			final int common = commonLength(child.label, segments, position);
+			// A prefix may end in the middle of an edge, in which case every name below the edge matches
+			if (common < child.label.length && position + common < segments.length)
+			{
+				return Optional.empty();
+			}
+			appendSegments(name, child.label);
+			node = child;
+			position += child.label.length;
+		}
+
+		return Optional.of(new Located(node, name.toString(), position == segments.length));
+	}
+
+	private static void collect(final Node node, final StringBuilder name, final List<String> result)
+	{
+		if (node.terminal)
+		{
+			result.add(name.toString());
+		}
+
+		for (final Node child : node.children)
+		{
+			final int length = name.length();
+			appendSegments(name, child.label);
+			collect(child, name, result);
+			name.setLength(length);
+		}
+	}
+
+	private Node splitEdge(final Node parent, final int childIndex, final int common)
+	{
+		final Node child = parent.children[childIndex];
+		final Node middle = new Node(Arrays.copyOf(child.label, common));
+		middle.size = child.size;
+		middle.children = new Node[]{child};
+
+		child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+		parent.children[childIndex] = middle;
+		return middle;
+	}
+
+	private String[] pooled(final String[] segments, final int from, final int to)
+	{
+		final String[] label = new String[to - from];
+		for (int i = from; i < to; i++)
+		{
+			label[i - from] = segmentPool.computeIfAbsent(segments[i], s -> s);
+		}
+		return label;
+	}
+
+	private static int commonLength(final String[] label, final String[] segments, final int position)
+	{
+		int common = 0;
+		while (common < label.length && position + common < segments.length
+				&& label[common].equals(segments[position + common]))
+		{
+			common++;
+		}
+		return common;
+	}
+
+	private static void appendSegments(final StringBuilder name, final String[] segments)
+	{
+		for (final String segment : segments)
+		{
+			if (!name.isEmpty())
+			{
+				name.append(SEGMENT_SEPARATOR);
+			}
+			name.append(segment);
+		}
+	}
+
+	private static String[] segmentsOf(final String name, final boolean allowPrefix)
+	{
+		if (name == null)
+		{
+			throw new IllegalArgumentException("Name cannot be null");
+		}
+
+		// A prefix such as "de.gupta." means "every name inside de.gupta"
+		final String trimmed = allowPrefix && name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+		if (trimmed.isEmpty())
+		{
+			if (allowPrefix)
+			{
+				return NO_SEGMENTS;
+			}
+			throw new IllegalArgumentException("Name cannot be empty");
+		}
+
+		final List<String> segments = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i <= trimmed.length(); i++)
+		{
+			if (i == trimmed.length() || trimmed.charAt(i) == SEGMENT_SEPARATOR)
+			{
+				if (i == start)
+				{
+					throw new IllegalArgumentException("Name contains an empty segment: " + name);
+				}
+				segments.add(trimmed.substring(start, i));
+				start = i + 1;
+			}
+		}
+		return segments.toArray(NO_SEGMENTS);
+	}
+
+	private QualifiedNameTrie()
+	{
+	}
+
+	private record Located(Node node, String name, boolean exact)
+	{
+	}
+
+	private static final class Node
+	{
+		private String[] label;
+		private Node[] children = NO_CHILDREN;
+		private boolean terminal;
+		private int size;
+
+		private Node(final String[] label)
+		{
+			this.label = label;
+		}
+
+		// Children are kept sorted by their first segment, so lookup is a binary search
+		private int indexOf(final String segment)
+		{
+			int low = 0;
+			int high = children.length - 1;
+			while (low <= high)
+			{
+				final int middle = (low + high) >>> 1;
+				final int comparison = children[middle].label[0].compareTo(segment);
+				if (comparison < 0)
+				{
+					low = middle + 1;
+				}
+				else if (comparison > 0)
+				{
+					high = middle - 1;
+				}
+				else
+				{
+					return middle;
+				}
+			}
+			return -(low + 1);
+		}
+
+		private void insertChild(final int index, final Node child)
+		{
+			final Node[] expanded = new Node[children.length + 1];
+			System.arraycopy(children, 0, expanded, 0, index);
+			expanded[index] = child;
+			System.arraycopy(children, index, expanded, index + 1, children.length - index);
+			children = expanded;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package de.gupta.commons.utility.string;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Myers' bit-vector edit distance (Hyyrö's formulation) for patterns of up to 64 characters
+final class BitParallelPattern
+{
+	static final int MAX_LENGTH = Long.SIZE;
+
+	private static final int TABLE_SIZE = 256;
+
+	private final int length;
+	private final long lastBit;
+	private final long[] latin1Masks;
+	private final Map<Character, Long> otherMasks;
+
+	static boolean fits(final CharSequence pattern)
+	{
+		return pattern.length() <= MAX_LENGTH;
+	}
+
+	static BitParallelPattern of(final CharSequence pattern)
+	{
+		if (!fits(pattern))
+		{
+			throw new IllegalArgumentException("Pattern longer than " + MAX_LENGTH + " characters");
+		}
+		return new BitParallelPattern(pattern);
+	}
+
+	int length()
+	{
+		return length;
+	}
+
+	int distance(final CharSequence text, final int maxDistance)
+	{
+		final int textLength = text.length();
+		if (length == 0)
+		{
+			return textLength;
+		}
+		if (Math.abs(textLength - length) > maxDistance)
+		{
+			return Integer.MAX_VALUE;
+		}
+
+		long pv = -1L;
+		long mv = 0L;
+		int score = length;
+
+		for (int j = 0; j < textLength; j++)
+		{
+			final long eq = maskOf(text.charAt(j));
+			final long xv = eq | mv;
+			final long xh = (((eq & pv) + pv) ^ pv) | eq;
+			long ph = mv | ~(xh | pv);
+			long mh = pv & xh;
+
+			if ((ph & lastBit) != 0)
+			{
+				score++;
+			}
+			else if ((mh & lastBit) != 0)
+			{
+				score--;
+			}
+
+			// The final distance can drop by at most one per remaining text character
+			if (score - (textLength - j - 1) > maxDistance)
+			{
+				return Integer.MAX_VALUE;
+			}
+
+			ph = (ph << 1) | 1L;
+			mh <<= 1;
+			pv = mh | ~(xv | ph);
+			mv = ph & xv;
+		}
+
+		return score;
+	}
+
+	int substringDistance(final CharSequence text)
+	{
+		if (length == 0)
+		{
+			return 0;
+		}
+
+		long pv = -1L;
+		long mv = 0L;
+		int score = length;
+		int best = length;
+
+		for (int j = 0, textLength = text.length(); j < textLength && best > 0; j++)
+		{
+			final long eq = maskOf(text.charAt(j));
+			final long xv = eq | mv;
+			final long xh = (((eq & pv) + pv) ^ pv) | eq;
+			long ph = mv | ~(xh | pv);
+			long mh = pv & xh;
+
+			if ((ph & lastBit) != 0)
+			{
+				score++;
+			}
+			else if ((mh & lastBit) != 0)
+			{
+				score--;
+			}
+			best = Math.min(best, score);
+
+			// A match may start anywhere in the text, so the top row stays zero
+			ph <<= 1;
+			mh <<= 1;
+			pv = mh | ~(xv | ph);
+			mv = ph & xv;
+		}
+
+		return best;
+	}
+
+	private long maskOf(final char c)
+	{
+		return c < TABLE_SIZE ? latin1Masks[c] : otherMasks.getOrDefault(c, 0L);
+	}
+
+	private BitParallelPattern(final CharSequence pattern)
+	{
+		this.length = pattern.length();
+		this.lastBit = length == 0 ? 0L : 1L << (length - 1);
+		this.latin1Masks = new long[TABLE_SIZE];
+		this.otherMasks = new HashMap<>();
+
+		for (int i = 0; i < length; i++)
+		{
+			final char c = pattern.charAt(i);
+			if (c < TABLE_SIZE)
+			{
+				latin1Masks[c] |= 1L << i;
+			}
+			else
+			{
+				otherMasks.merge(c, 1L << i, (a, b) -> a | b);
+			}
+		}
+	}
+}
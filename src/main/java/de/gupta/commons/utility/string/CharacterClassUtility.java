@@ -0,0 +1,119 @@
+package de.gupta.commons.utility.string;
+
+public final class CharacterClassUtility
+{
+	private static final int LATIN1_SIZE = 256;
+	private static final int ALL_CLASSES = (1 << CharacterClass.values().length) - 1;
+	private static final short[] LATIN1_CLASSES = new short[LATIN1_SIZE];
+
+	static
+	{
+		for (char c = 0; c < LATIN1_SIZE; c++)
+		{
+			LATIN1_CLASSES[c] = (short) computeClasses(c);
+		}
+	}
+
+	public static boolean is(final char c, final CharacterClass characterClass)
+	{
+		return (classesOf(c) & characterClass.mask()) != 0;
+	}
+
+	public static boolean isUpperCase(final char c)
+	{
+		return is(c, CharacterClass.UPPERCASE);
+	}
+
+	public static boolean isLowerCase(final char c)
+	{
+		return is(c, CharacterClass.LOWERCASE);
+	}
+
+	public static boolean isLetter(final char c)
+	{
+		return is(c, CharacterClass.LETTER);
+	}
+
+	public static boolean isDigit(final char c)
+	{
+		return is(c, CharacterClass.DIGIT);
+	}
+
+	public static boolean isWhitespace(final char c)
+	{
+		return is(c, CharacterClass.WHITESPACE);
+	}
+
+	public static CharacterProfile profile(final CharSequence text)
+	{
+		if (text == null)
+		{
+			throw new IllegalArgumentException("Text cannot be null");
+		}
+
+		int any = 0;
+		int all = ALL_CLASSES;
+		for (int i = 0, length = text.length(); i < length; i++)
+		{
+			final int classes = classesOf(text.charAt(i));
+			any |= classes;
+			all &= classes;
+		}
+		return new CharacterProfile(text.length(), any, text.isEmpty() ? 0 : all);
+	}
+
+	static int classesOf(final char c)
+	{
+		return c < LATIN1_SIZE ? LATIN1_CLASSES[c] : computeClasses(c);
+	}
+
+	private static int computeClasses(final char c)
+	{
+		int classes = 0;
+		classes |= c < 128 ? CharacterClass.ASCII.mask() : 0;
+		classes |= Character.isLetter(c) ? CharacterClass.LETTER.mask() : 0;
+		classes |= Character.isUpperCase(c) ? CharacterClass.UPPERCASE.mask() : 0;
+		classes |= Character.isLowerCase(c) ? CharacterClass.LOWERCASE.mask() : 0;
+		classes |= Character.isDigit(c) ? CharacterClass.DIGIT.mask() : 0;
+		classes |= Character.isWhitespace(c) ? CharacterClass.WHITESPACE.mask() : 0;
+		classes |= Character.isISOControl(c) ? CharacterClass.CONTROL.mask() : 0;
+		classes |= Character.isJavaIdentifierStart(c) ? CharacterClass.IDENTIFIER_START.mask() : 0;
+		classes |= Character.isJavaIdentifierPart(c) ? CharacterClass.IDENTIFIER_PART.mask() : 0;
+		return classes;
+	}
+
+	private CharacterClassUtility()
+	{
+	}
+
+	public enum CharacterClass
+	{
+		ASCII,
+		LETTER,
+		UPPERCASE,
+		LOWERCASE,
+		DIGIT,
+		WHITESPACE,
+		CONTROL,
+		IDENTIFIER_START,
+		IDENTIFIER_PART;
+
+		int mask()
+		{
+			return 1 << ordinal();
+		}
+	}
+
+	public record CharacterProfile(int length, int anyClasses, int allClasses)
+	{
+		public boolean any(final CharacterClass characterClass)
+		{
+			return (anyClasses & characterClass.mask()) != 0;
+		}
+
+		public boolean all(final CharacterClass characterClass)
+		{
+			return (allClasses & characterClass.mask()) != 0;
+		}
+	}
+}
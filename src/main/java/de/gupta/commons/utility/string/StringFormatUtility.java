@@ -8,6 +8,6 @@ public final class StringFormatUtility
 
 	public static boolean startsWithUppercase(String text)
 	{
-		return !text.isEmpty() && Character.isUpperCase(text.charAt(0));
+		return !text.isEmpty() && CharacterClassUtility.isUpperCase(text.charAt(0));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,322 @@
+package de.gupta.commons.utility.string;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// xxHash64; characters are hashed as their UTF-16LE code units, so no charset encoding is ever needed
+public final class StringHashUtility
+{
+	public static final long DEFAULT_SEED = 0L;
+
+	private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+	private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+	private static final long PRIME_3 = 0x165667B19E3779F9L;
+	private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+	private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+	private static final int STRIPE_BYTES = 32;
+	private static final int STRIPE_CHARS = STRIPE_BYTES / Character.BYTES;
+
+	private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	public static long hash64(final CharSequence text)
+	{
+		if (text == null)
+		{
+			throw new IllegalArgumentException("Text cannot be null");
+		}
+		return hash64(text, 0, text.length(), DEFAULT_SEED);
+	}
+
+	public static long hash64(final CharSequence text, final int start, final int end, final long seed)
+	{
+		if (text == null)
+		{
+			throw new IllegalArgumentException("Text cannot be null");
+		}
+		return newHasher(seed).update(text, start, end).digest();
+	}
+
+	public static long hash64(final byte[] bytes)
+	{
+		if (bytes == null)
+		{
+			throw new IllegalArgumentException("Bytes cannot be null");
+		}
+		return hash64(bytes, 0, bytes.length, DEFAULT_SEED);
+	}
+
+	public static long hash64(final byte[] bytes, final int offset, final int length, final long seed)
+	{
+		if (bytes == null)
+		{
+			throw new IllegalArgumentException("Bytes cannot be null");
+		}
+		return newHasher(seed).update(bytes, offset, length).digest();
+	}
+
+	// Hashes the remaining bytes; unlike Hasher.update, the position of the buffer is left where it was
+	public static long hash64(final ByteBuffer buffer)
+	{
+		if (buffer == null)
+		{
+			throw new IllegalArgumentException("Buffer cannot be null");
+		}
+		return newHasher(DEFAULT_SEED).update(buffer.duplicate()).digest();
+	}
+
+	public static Hasher newHasher()
+	{
+		return newHasher(DEFAULT_SEED);
+	}
+
+	public static Hasher newHasher(final long seed)
+	{
+		return new Hasher(seed);
+	}
+
+	private static long round(final long accumulator, final long lane)
+	{
+		return Long.rotateLeft(accumulator + lane * PRIME_2, 31) * PRIME_1;
+	}
+
+	private static long mergeRound(final long accumulator, final long value)
+	{
+		return (accumulator ^ round(0, value)) * PRIME_1 + PRIME_4;
+	}
+
+	private static long charLane(final String text, final int index)
+	{
+		return (long) text.charAt(index)
+				| (long) text.charAt(index + 1) << 16
+				| (long) text.charAt(index + 2) << 32
+				| (long) text.charAt(index + 3) << 48;
+	}
+
+	private static long charLane(final CharSequence text, final int index)
+	{
+		return (long) text.charAt(index)
+				| (long) text.charAt(index + 1) << 16
+				| (long) text.charAt(index + 2) << 32
+				| (long) text.charAt(index + 3) << 48;
+	}
+
+	private StringHashUtility()
+	{
+	}
+
+	public static final class Hasher
+	{
+		private final long seed;
+		private final byte[] pending = new byte[STRIPE_BYTES];
+		private int pendingLength;
+		private long totalLength;
+		private long v1;
+		private long v2;
+		private long v3;
+		private long v4;
+
+		private Hasher(final long seed)
+		{
+			this.seed = seed;
+			reset();
+		}
+
+		public Hasher reset()
+		{
+			v1 = seed + PRIME_1 + PRIME_2;
+			v2 = seed + PRIME_2;
+			v3 = seed;
+			v4 = seed - PRIME_1;
+			pendingLength = 0;
+			totalLength = 0;
+			return this;
+		}
+
+		public Hasher update(final byte[] bytes, final int offset, final int length)
+		{
+			checkRange(bytes.length, offset, offset + length);
+			totalLength += length;
+
+			int position = offset;
+			final int end = offset + length;
+			position = fillPending(bytes, position, end);
+
+			// Whole stripes are read straight from the caller's array
+			for (; end - position >= STRIPE_BYTES; position += STRIPE_BYTES)
+			{
+				stripe((long) LONG_LE.get(bytes, position), (long) LONG_LE.get(bytes, position + 8),
+						(long) LONG_LE.get(bytes, position + 16), (long) LONG_LE.get(bytes, position + 24));
+			}
+
+			System.arraycopy(bytes, position, pending, pendingLength, end - position);
+			pendingLength += end - position;
+			return this;
+		}
+
+		public Hasher update(final byte[] bytes)
+		{
+			return update(bytes, 0, bytes.length);
+		}
+
+		public Hasher update(final ByteBuffer buffer)
+		{
+			if (buffer.hasArray())
+			{
+				update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+				buffer.position(buffer.limit());
+				return this;
+			}
+
+			final ByteBuffer source = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+			totalLength += source.remaining();
+			while (source.hasRemaining() && pendingLength > 0)
+			{
+				addPendingByte(source.get());
+			}
+			while (source.remaining() >= STRIPE_BYTES)
+			{
+				stripe(source.getLong(), source.getLong(), source.getLong(), source.getLong());
+			}
+			while (source.hasRemaining())
+			{
+				addPendingByte(source.get());
+			}
+			buffer.position(buffer.limit());
+			return this;
+		}
+
+		public Hasher update(final CharSequence text)
+		{
+			return update(text, 0, text.length());
+		}
+
+		public Hasher update(final CharSequence text, final int start, final int end)
+		{
+			checkRange(text.length(), start, end);
+			totalLength += (long) (end - start) * Character.BYTES;
+
+			int position = start;
+			// Realign to a stripe boundary one char at a time if earlier updates left a partial stripe
+			for (; position < end && pendingLength > 0; position++)
+			{
+				addPendingChar(text.charAt(position));
+			}
+			// Strings get their own loop so charAt is a direct call rather than an interface dispatch
+			if (text instanceof String string)
+			{
+				for (; end - position >= STRIPE_CHARS; position += STRIPE_CHARS)
+				{
+					stripe(charLane(string, position), charLane(string, position + 4),
+							charLane(string, position + 8), charLane(string, position + 12));
+				}
+			}
+			for (; end - position >= STRIPE_CHARS; position += STRIPE_CHARS)
+			{
+				stripe(charLane(text, position), charLane(text, position + 4), charLane(text, position + 8),
+						charLane(text, position + 12));
+			}
+			for (; position < end; position++)
+			{
+				addPendingChar(text.charAt(position));
+			}
+			return this;
+		}
+
+		public long digest()
+		{
+			long hash = totalLength >= STRIPE_BYTES ?
+					mergeRound(mergeRound(mergeRound(mergeRound(
+							Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12)
+									+ Long.rotateLeft(v4, 18), v1), v2), v3), v4) :
+					seed + PRIME_5;
+			hash += totalLength;
+
+			int position = 0;
+			for (; pendingLength - position >= Long.BYTES; position += Long.BYTES)
+			{
+				hash ^= round(0, (long) LONG_LE.get(pending, position));
+				hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+			}
+			if (pendingLength - position >= Integer.BYTES)
+			{
+				hash ^= ((int) INT_LE.get(pending, position) & 0xFFFFFFFFL) * PRIME_1;
+				hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+				position += Integer.BYTES;
+			}
+			for (; position < pendingLength; position++)
+			{
+				hash ^= (pending[position] & 0xFFL) * PRIME_5;
+				hash = Long.rotateLeft(hash, 11) * PRIME_1;
+			}
+
+			hash ^= hash >>> 33;
+			hash *= PRIME_2;
+			hash ^= hash >>> 29;
+			hash *= PRIME_3;
+			hash ^= hash >>> 32;
+			return hash;
+		}
+
+		private int fillPending(final byte[] bytes, final int position, final int end)
+		{
+			if (pendingLength == 0)
+			{
+				return position;
+			}
+
+			final int copied = Math.min(STRIPE_BYTES - pendingLength, end - position);
+			System.arraycopy(bytes, position, pending, pendingLength, copied);
+			pendingLength += copied;
+			if (pendingLength == STRIPE_BYTES)
+			{
+				flushPending();
+			}
+			return position + copied;
+		}
+
+		private void addPendingChar(final char c)
+		{
+			addPendingByte((byte) c);
+			addPendingByte((byte) (c >>> 8));
+		}
+
+		private void addPendingByte(final byte b)
+		{
+			pending[pendingLength++] = b;
+			if (pendingLength == STRIPE_BYTES)
+			{
+				flushPending();
+			}
+		}
+
+		private void flushPending()
+		{
+			stripe((long) LONG_LE.get(pending, 0), (long) LONG_LE.get(pending, 8), (long) LONG_LE.get(pending, 16),
+					(long) LONG_LE.get(pending, 24));
+			pendingLength = 0;
+		}
+
+		private void stripe(final long lane1, final long lane2, final long lane3, final long lane4)
+		{
+			v1 = round(v1, lane1);
+			v2 = round(v2, lane2);
+			v3 = round(v3, lane3);
+			v4 = round(v4, lane4);
+		}
+
+		private static void checkRange(final int length, final int start, final int end)
+		{
+			if (start < 0 || end < start || end > length)
+			{
+				throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+						+ length);
+			}
+		}
+	}
+}
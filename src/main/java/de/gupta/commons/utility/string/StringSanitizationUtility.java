@@ -1,5 +1,10 @@
 package de.gupta.commons.utility.string;
 
+import de.gupta.commons.utility.string.CharacterClassUtility.CharacterClass;
+
+import java.util.Arrays;
+import java.util.List;
+
 public final class StringSanitizationUtility
 {
 	public static boolean isStringNonEmpty(final String input)
@@ -37,7 +42,144 @@ public final class StringSanitizationUtility
 		return input.split(delimiter, -1);
 	}
 
+	public static String normalizeWhitespace(final String input)
+	{
+		return normalize(input, NormalizationOption.TRIM, NormalizationOption.COLLAPSE_WHITESPACE,
+				NormalizationOption.STRIP_CONTROL_CHARACTERS);
+	}
+
+	public static String normalize(final String input, final NormalizationOption... options)
+	{
+		if (input == null)
+		{
+			return null;
+		}
+
+		final List<NormalizationOption> enabled = Arrays.asList(options);
+		return new Normalizer(input,
+				enabled.contains(NormalizationOption.TRIM),
+				enabled.contains(NormalizationOption.COLLAPSE_WHITESPACE),
+				enabled.contains(NormalizationOption.STRIP_CONTROL_CHARACTERS),
+				enabled.contains(NormalizationOption.LOWER_CASE)
+		).normalize();
+	}
+
 	private StringSanitizationUtility()
 	{
 	}
+
+	public enum NormalizationOption
+	{
+		TRIM,
+		COLLAPSE_WHITESPACE,
+		STRIP_CONTROL_CHARACTERS,
+		LOWER_CASE
+	}
+
+	private static final class Normalizer
+	{
+		private final String input;
+		private final boolean trim;
+		private final boolean collapse;
+		private final boolean stripControl;
+		private final boolean lowerCase;
+
+		// Until the output first differs from the input, it is tracked as a prefix of the input and no buffer exists
+		private char[] output;
+		private int length;
+
+		private Normalizer(final String input, final boolean trim, final boolean collapse, final boolean stripControl,
+						   final boolean lowerCase)
+		{
+			this.input = input;
+			this.trim = trim;
+			this.collapse = collapse;
+			this.stripControl = stripControl;
+			this.lowerCase = lowerCase;
+		}
+
+		private String normalize()
+		{
+			final int inputLength = input.length();
+			int whitespaceRunStart = -1;
+
+			for (int i = 0; i < inputLength; i++)
+			{
+				final char c = input.charAt(i);
+				final int classes = CharacterClassUtility.classesOf(c);
+
+				if (has(classes, CharacterClass.WHITESPACE))
+				{
+					whitespaceRunStart = whitespaceRunStart < 0 ? i : whitespaceRunStart;
+					continue;
+				}
+				if (stripControl && has(classes, CharacterClass.CONTROL))
+				{
+					continue;
+				}
+
+				if (whitespaceRunStart >= 0)
+				{
+					emitWhitespace(whitespaceRunStart, i);
+					whitespaceRunStart = -1;
+				}
+				emit(lowerCase && has(classes, CharacterClass.UPPERCASE) ? Character.toLowerCase(c) : c);
+			}
+
+			if (whitespaceRunStart >= 0 && !trim)
+			{
+				emitWhitespace(whitespaceRunStart, inputLength);
+			}
+
+			if (output == null)
+			{
+				return length == inputLength ? input : input.substring(0, length);
+			}
+			return new String(output, 0, length);
+		}
+
+		private void emitWhitespace(final int from, final int to)
+		{
+			// Leading whitespace is dropped when trimming: nothing has been emitted before it
+			if (trim && length == 0)
+			{
+				return;
+			}
+
+			if (collapse)
+			{
+				emit(' ');
+				return;
+			}
+
+			for (int i = from; i < to; i++)
+			{
+				final char c = input.charAt(i);
+				if (CharacterClassUtility.isWhitespace(c))
+				{
+					emit(c);
+				}
+			}
+		}
+
+		private void emit(final char c)
+		{
+			if (output == null)
+			{
+				if (input.charAt(length) == c)
+				{
+					length++;
+					return;
+				}
+				output = new char[input.length()];
+				input.getChars(0, length, output, 0);
+			}
+			output[length++] = c;
+		}
+
+		private static boolean has(final int classes, final CharacterClass characterClass)
+		{
+			return (classes & characterClass.mask()) != 0;
+		}
+	}
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package de.gupta.commons.utility.string;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public final class StringSearchUtility
 {
@@ -12,7 +17,133 @@ public final class StringSearchUtility
 					   .orElse(input);
 	}
 
+	public static int levenshteinDistance(final CharSequence first, final CharSequence second)
+	{
+		return boundedDistance(first, second, Integer.MAX_VALUE);
+	}
+
+	public static OptionalInt boundedLevenshteinDistance(final CharSequence first, final CharSequence second,
+														 final int maxDistance)
+	{
+		if (maxDistance < 0)
+		{
+			throw new IllegalArgumentException("Maximum distance cannot be negative");
+		}
+
+		final int distance = boundedDistance(first, second, maxDistance);
+		return distance <= maxDistance ? OptionalInt.of(distance) : OptionalInt.empty();
+	}
+
+	public static int fuzzySubstringDistance(final CharSequence text, final CharSequence pattern)
+	{
+		requireNonNull(text, "Text");
+		requireNonNull(pattern, "Pattern");
+
+		return BitParallelPattern.fits(pattern) ? BitParallelPattern.of(pattern).substringDistance(text) :
+				dynamicProgrammingDistance(pattern, text, Integer.MAX_VALUE, true);
+	}
+
+	public static boolean containsFuzzy(final CharSequence text, final CharSequence pattern, final int maxDistance)
+	{
+		return fuzzySubstringDistance(text, pattern) <= maxDistance;
+	}
+
+	public static List<Match> closestMatches(final String query, final Collection<String> candidates,
+											 final int maxDistance)
+	{
+		requireNonNull(query, "Query");
+		requireNonNull(candidates, "Candidates");
+		if (maxDistance < 0)
+		{
+			throw new IllegalArgumentException("Maximum distance cannot be negative");
+		}
+
+		// The query's match masks are built once and shared read-only by every worker
+		final Optional<BitParallelPattern> pattern = Optional.of(query)
+															 .filter(BitParallelPattern::fits)
+															 .map(BitParallelPattern::of);
+
+		return candidates.parallelStream()
+						 .filter(Objects::nonNull)
+						 .map(candidate -> new Match(candidate, pattern.map(p -> p.distance(candidate, maxDistance))
+																	   .orElseGet(() -> dynamicProgrammingDistance(
+																			   query, candidate, maxDistance, false))))
+						 .filter(match -> match.distance() <= maxDistance)
+						 .sorted(Comparator.comparingInt(Match::distance).thenComparing(Match::candidate))
+						 .toList();
+	}
+
+	private static int boundedDistance(final CharSequence first, final CharSequence second, final int maxDistance)
+	{
+		requireNonNull(first, "First string");
+		requireNonNull(second, "Second string");
+
+		// Edit distance is symmetric, so the shorter string becomes the bit-vector pattern
+		final CharSequence pattern = first.length() <= second.length() ? first : second;
+		final CharSequence text = pattern == first ? second : first;
+
+		return BitParallelPattern.fits(pattern) ? BitParallelPattern.of(pattern).distance(text, maxDistance) :
+				dynamicProgrammingDistance(pattern, text, maxDistance, false);
+	}
+
+	private static int dynamicProgrammingDistance(final CharSequence pattern, final CharSequence text,
+												  final int maxDistance, final boolean substring)
+	{
+		final int m = pattern.length();
+		final int n = text.length();
+		if (!substring && Math.abs(m - n) > maxDistance)
+		{
+			return Integer.MAX_VALUE;
+		}
+
+		// Columns run over the pattern so that the last cell of each row is the distance so far
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+		for (int i = 0; i <= m; i++)
+		{
+			previous[i] = i;
+		}
+
+		int best = m;
+		for (int j = 1; j <= n; j++)
+		{
+			current[0] = substring ? 0 : j;
+			int rowMinimum = current[0];
+			final char c = text.charAt(j - 1);
+			for (int i = 1; i <= m; i++)
+			{
+				final int cost = pattern.charAt(i - 1) == c ? 0 : 1;
+				current[i] = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+				rowMinimum = Math.min(rowMinimum, current[i]);
+			}
+			best = Math.min(best, current[m]);
+
+			if (!substring && rowMinimum > maxDistance)
+			{
+				return Integer.MAX_VALUE;
+			}
+
+			final int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+
+		return substring ? best : previous[m];
+	}
+
+	private static void requireNonNull(final Object value, final String name)
+	{
+		if (value == null)
+		{
+			throw new IllegalArgumentException(name + " cannot be null");
+		}
+	}
+
 	private StringSearchUtility()
 	{
 	}
-}
\ No newline at end of file
+
+	public record Match(String candidate, int distance)
+	{
+	}
+}
@@ -0,0 +1,183 @@
+package de.gupta.commons.utility.string;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TextTemplate
+{
+	private static final char PLACEHOLDER_MARKER = '$';
+	private static final char PLACEHOLDER_OPEN = '{';
+	private static final char PLACEHOLDER_CLOSE = '}';
+
+	private final List<Segment> segments;
+	private final Set<String> placeholderNames;
+	private final int literalLength;
+
+	public static TextTemplate compile(final String template)
+	{
+		if (template == null)
+		{
+			throw new IllegalArgumentException("Template cannot be null");
+		}
+
+		final List<Segment> segments = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+		final int length = template.length();
+
+		for (int i = 0; i < length; )
+		{
+			final char c = template.charAt(i);
+			final char next = (i + 1 < length) ? template.charAt(i + 1) : '\0';
+
+			// "$$" escapes a literal marker, so "$${x}" renders as "${x}"
+			if (c == PLACEHOLDER_MARKER && next == PLACEHOLDER_MARKER)
+			{
+				literal.append(PLACEHOLDER_MARKER);
+				i += 2;
+				continue;
+			}
+
+			if (c == PLACEHOLDER_MARKER && next == PLACEHOLDER_OPEN)
+			{
+				final int close = template.indexOf(PLACEHOLDER_CLOSE, i + 2);
+				if (close < 0)
+				{
+					throw new IllegalArgumentException("Unterminated placeholder at index " + i);
+				}
+
+				final String name = template.substring(i + 2, close).trim();
+				if (name.isEmpty())
+				{
+					throw new IllegalArgumentException("Empty placeholder at index " + i);
+				}
+
+				flushLiteral(literal, segments);
+				segments.add(new Segment.Placeholder(name));
+				i = close + 1;
+				continue;
+			}
+
+			literal.append(c);
+			i++;
+		}
+		flushLiteral(literal, segments);
+
+		return new TextTemplate(segments);
+	}
+
+	public Set<String> placeholderNames()
+	{
+		return placeholderNames;
+	}
+
+	public List<Segment> segments()
+	{
+		return segments;
+	}
+
+	public int sizeHint(final Map<String, ? extends CharSequence> values)
+	{
+		int size = literalLength;
+		for (final Segment segment : segments)
+		{
+			if (segment instanceof Segment.Placeholder placeholder)
+			{
+				size += valueOf(placeholder, values).length();
+			}
+		}
+		return size;
+	}
+
+	public String render(final Map<String, ? extends CharSequence> values)
+	{
+		final StringBuilder result = new StringBuilder(sizeHint(values));
+		try
+		{
+			renderTo(result, values);
+		}
+		catch (IOException e)
+		{
+			// StringBuilder never throws, but Appendable declares it
+			throw new UncheckedIOException(e);
+		}
+		return result.toString();
+	}
+
+	public void renderTo(final Appendable target, final Map<String, ? extends CharSequence> values)
+			throws IOException
+	{
+		if (target == null)
+		{
+			throw new IllegalArgumentException("Target cannot be null");
+		}
+
+		for (final Segment segment : segments)
+		{
+			switch (segment)
+			{
+				case Segment.Literal literal -> target.append(literal.text());
+				case Segment.Placeholder placeholder -> target.append(valueOf(placeholder, values));
+			}
+		}
+	}
+
+	private static CharSequence valueOf(final Segment.Placeholder placeholder,
+										final Map<String, ? extends CharSequence> values)
+	{
+		if (values == null)
+		{
+			throw new IllegalArgumentException("Values cannot be null");
+		}
+
+		final CharSequence value = values.get(placeholder.name());
+		if (value == null)
+		{
+			throw new IllegalArgumentException("No value for placeholder: " + placeholder.name());
+		}
+		return value;
+	}
+
+	private static void flushLiteral(final StringBuilder literal, final List<Segment> segments)
+	{
+		if (!literal.isEmpty())
+		{
+			segments.add(new Segment.Literal(literal.toString()));
+			literal.setLength(0);
+		}
+	}
+
+	private TextTemplate(final List<Segment> segments)
+	{
+		this.segments = List.copyOf(segments);
+
+		final Set<String> names = new LinkedHashSet<>();
+		int literals = 0;
+		for (final Segment segment : this.segments)
+		{
+			switch (segment)
+			{
+				case Segment.Literal literal -> literals += literal.text().length();
+				case Segment.Placeholder placeholder -> names.add(placeholder.name());
+			}
+		}
+		this.placeholderNames = Collections.unmodifiableSet(names);
+		this.literalLength = literals;
+	}
+
+	public sealed interface Segment
+	{
+		record Literal(String text) implements Segment
+		{
+		}
+
+		record Placeholder(String name) implements Segment
+		{
+		}
+	}
+}
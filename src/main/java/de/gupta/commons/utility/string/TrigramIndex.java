@@ -0,0 +1,159 @@
+package de.gupta.commons.utility.string;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+public final class TrigramIndex
+{
+	private static final char PADDING = '\u0000';
+
+	private static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::similarity)
+																   .reversed()
+																   .thenComparing(Candidate::value);
+
+	private final Map<Long, Set<String>> postings = new HashMap<>();
+	private final Map<String, Integer> trigramCounts = new HashMap<>();
+
+	public static TrigramIndex of(final Collection<String> values)
+	{
+		if (values == null)
+		{
+			throw new IllegalArgumentException("Values cannot be null");
+		}
+
+		final TrigramIndex index = new TrigramIndex();
+		values.forEach(index::add);
+		return index;
+	}
+
+	public static TrigramIndex empty()
+	{
+		return new TrigramIndex();
+	}
+
+	public boolean add(final String value)
+	{
+		if (value == null || trigramCounts.containsKey(value))
+		{
+			return false;
+		}
+
+		final Set<Long> trigrams = trigramsOf(value);
+		trigrams.forEach(trigram -> postings.computeIfAbsent(trigram, _ -> new HashSet<>()).add(value));
+		trigramCounts.put(value, trigrams.size());
+		return true;
+	}
+
+	public boolean remove(final String value)
+	{
+		if (value == null || trigramCounts.remove(value) == null)
+		{
+			return false;
+		}
+
+		for (final Long trigram : trigramsOf(value))
+		{
+			final Set<String> posting = postings.get(trigram);
+			posting.remove(value);
+			if (posting.isEmpty())
+			{
+				postings.remove(trigram);
+			}
+		}
+		return true;
+	}
+
+	public boolean contains(final String value)
+	{
+		return trigramCounts.containsKey(value);
+	}
+
+	public int size()
+	{
+		return trigramCounts.size();
+	}
+
+	public List<Candidate> topSimilar(final String query, final int limit)
+	{
+		return topSimilar(query, limit, 0.0);
+	}
+
+	public List<Candidate> topSimilar(final String query, final int limit, final double minimumSimilarity)
+	{
+		if (query == null)
+		{
+			throw new IllegalArgumentException("Query cannot be null");
+		}
+		if (limit <= 0)
+		{
+			return List.of();
+		}
+
+		final Set<Long> queryTrigrams = trigramsOf(query);
+
+		// Only values sharing at least one trigram with the query are ever scored
+		final Map<String, Integer> sharedCounts = new HashMap<>();
+		for (final Long trigram : queryTrigrams)
+		{
+			final Set<String> posting = postings.get(trigram);
+			if (posting != null)
+			{
+				posting.forEach(value -> sharedCounts.merge(value, 1, Integer::sum));
+			}
+		}
+
+		// Bounded min-heap keeps the best `limit` candidates seen so far
+		final PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+		sharedCounts.forEach((value, shared) ->
+		{
+			final double similarity = 2.0 * shared / (queryTrigrams.size() + trigramCounts.get(value));
+			if (similarity >= minimumSimilarity)
+			{
+				best.add(new Candidate(value, similarity));
+				if (best.size() > limit)
+				{
+					best.poll();
+				}
+			}
+		});
+
+		final List<Candidate> result = new ArrayList<>(best);
+		result.sort(RANKING);
+		return result;
+	}
+
+	static Set<Long> trigramsOf(final String value)
+	{
+		final String normalized = value.toLowerCase(Locale.ROOT);
+		final int length = normalized.length();
+		final Set<Long> trigrams = new HashSet<>(length + 2);
+
+		// Two leading and one trailing pad make prefixes weigh more than suffixes, and give short values trigrams
+		char first = PADDING;
+		char second = PADDING;
+		for (int i = 0; i <= length; i++)
+		{
+			final char third = i < length ? normalized.charAt(i) : PADDING;
+			trigrams.add(((long) first << 32) | ((long) second << 16) | third);
+			first = second;
+			second = third;
+		}
+		return trigrams;
+	}
+
+	private TrigramIndex()
+	{
+	}
+
+	public record Candidate(String value, double similarity)
+	{
+	}
+}
@@ -0,0 +1,137 @@
+package de.gupta.commons.utility.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JoinUtility Tests")
+final class JoinUtilityTest
+{
+	@Nested
+	@DisplayName("join Tests")
+	class JoinTests
+	{
+		private static Stream<Arguments> joinProvider()
+		{
+			return Stream.of(
+					Arguments.of(List.of("a", "b", "c"), ",", "a,b,c", "Basic comma join"),
+					Arguments.of(List.of("a"), ",", "a", "Single item has no delimiter"),
+					Arguments.of(List.of(), ",", "", "Empty list joins to empty string"),
+					Arguments.of(List.of("", "", ""), ",", ",,", "Empty items keep their delimiters"),
+					Arguments.of(List.of("one", "two"), " :: ", "one :: two", "Multi-character delimiter"),
+					Arguments.of(List.of("x", "y"), "", "xy", "Empty delimiter"),
+					Arguments.of(List.of("こんにちは", "世界"), "|", "こんにちは|世界", "Unicode items")
+			);
+		}
+
+		@ParameterizedTest(name = "{3}")
+		@MethodSource("joinProvider")
+		@DisplayName("Test joining lists")
+		void join(List<String> items, String delimiter, String expected, String testDescription)
+		{
+			assertThat(JoinUtility.join(items, delimiter)).as(testDescription).isEqualTo(expected);
+			assertThat(JoinUtility.joinedLength(items, delimiter)).as(testDescription + " - exact length")
+																 .isEqualTo(expected.length());
+		}
+
+		@Test
+		@DisplayName("Joining should invert ListUtility.splitToList")
+		void join_invertsSplitToList()
+		{
+			String input = "alpha,,beta,gamma,";
+
+			assertThat(JoinUtility.joinWithComma(ListUtility.splitToListWithComma(input))).isEqualTo(input);
+		}
+
+		@Test
+		@DisplayName("Null input should throw IllegalArgumentException")
+		void join_nullInput()
+		{
+			assertThatThrownBy(() -> JoinUtility.join(null, ","))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> JoinUtility.join(List.of("a"), null))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> JoinUtility.join(Arrays.asList("a", null), ","))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("joinTo Tests")
+	class JoinToTests
+	{
+		@Test
+		@DisplayName("Joining to a Writer should match the in-memory join")
+		void joinTo_writer() throws IOException
+		{
+			List<String> items = List.of("a", "b", "c");
+			StringWriter writer = new StringWriter();
+
+			JoinUtility.joinTo(items, ";", writer);
+
+			assertThat(writer.toString()).isEqualTo("a;b;c");
+		}
+
+		@Test
+		@DisplayName("Joining to a channel should encode with the given charset")
+		void joinTo_channel() throws IOException
+		{
+			List<String> items = List.of("Grüße", "こんにちは");
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			JoinUtility.joinTo(items, ",", Channels.newChannel(output), StandardCharsets.UTF_8);
+
+			assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("Grüße,こんにちは");
+		}
+	}
+
+	@Nested
+	@DisplayName("parallelJoin Tests")
+	class ParallelJoinTests
+	{
+		@Test
+		@DisplayName("Parallel join of a large list should match String.join")
+		void parallelJoin_largeList()
+		{
+			List<String> items = IntStream.range(0, 100_003).mapToObj(i -> "item" + i).toList();
+
+			assertThat(JoinUtility.parallelJoin(items, ", ")).isEqualTo(String.join(", ", items));
+		}
+
+		@Test
+		@DisplayName("Parallel join should accept non-String character sequences")
+		void parallelJoin_charSequences()
+		{
+			List<StringBuilder> items = new ArrayList<>();
+			IntStream.range(0, 50_000).forEach(i -> items.add(new StringBuilder().append(i)));
+
+			assertThat(JoinUtility.parallelJoin(items, "")).isEqualTo(String.join("", items));
+		}
+
+		@Test
+		@DisplayName("Parallel join of a small list should match String.join")
+		void parallelJoin_smallList()
+		{
+			List<String> items = List.of("a", "b");
+
+			assertThat(JoinUtility.parallelJoin(items, "-")).isEqualTo("a-b");
+		}
+	}
+}
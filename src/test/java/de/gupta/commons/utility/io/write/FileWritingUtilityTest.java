@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -972,4 +973,134 @@ final class FileWritingUtilityTest
 			);
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("writeFileIfChanged Tests")
+	class WriteFileIfChangedTests
+	{
+		@ParameterizedTest(name = "{3}")
+		@MethodSource("writeFileIfChangedProvider")
+		@DisplayName("Test writeFileIfChanged against an existing file")
+		void writeFileIfChanged_tests(String existingContent, String content,
+									  Class<? extends FileWritingUtility.WriteResult> expectedResultType,
+									  String description) throws IOException
+		{
+			Path filePath = sharedTempDir.resolve("if_changed").resolve(description.replaceAll("\\W", "_") + ".txt");
+			Files.createDirectories(filePath.getParent());
+			Files.writeString(filePath, existingContent);
+			FileTime written = FileTime.fromMillis(0);
+			Files.setLastModifiedTime(filePath, written);
+
+			FileWritingUtility.WriteResult result = FileWritingUtility.writeFileIfChanged(filePath, content);
+
+			assertThat(result)
+					.as(description)
+					.isInstanceOf(expectedResultType);
+			assertThat(Files.readString(filePath))
+					.as("File content should match the written content")
+					.isEqualTo(content);
+			assertThat(Files.getLastModifiedTime(filePath).equals(written))
+					.as("Only unchanged files should keep their modification time")
+					.isEqualTo(expectedResultType == FileWritingUtility.WriteResult.Unchanged.class);
+		}
+
+		private static Stream<Arguments> writeFileIfChangedProvider()
+		{
+			return Stream.of(
+					Arguments.of("Hello, World!", "Hello, World!", FileWritingUtility.WriteResult.Unchanged.class,
+							"Identical content should leave the file alone"),
+					Arguments.of("", "", FileWritingUtility.WriteResult.Unchanged.class,
+							"Identical empty content should leave the file alone"),
+					Arguments.of("Grüße, 世界", "Grüße, 世界", FileWritingUtility.WriteResult.Unchanged.class,
+							"Identical unicode content should leave the file alone"),
+					Arguments.of("Hello, World!", "Hello, World?", FileWritingUtility.WriteResult.Success.class,
+							"Content of the same size should be compared byte by byte"),
+					Arguments.of("Hello", "Hello, World!", FileWritingUtility.WriteResult.Success.class,
+							"Content of a different size should be written")
+			);
+		}
+
+		@Test
+		@DisplayName("Test writeFileIfChanged creating a new file")
+		void writeFileIfChanged_newFile() throws IOException
+		{
+			Path filePath = sharedTempDir.resolve("if_changed_new").resolve("nested").resolve("new.txt");
+
+			FileWritingUtility.WriteResult result = FileWritingUtility.writeFileIfChanged(filePath, "Content");
+
+			assertThat(result)
+					.as("Writing a new file should succeed")
+					.isInstanceOf(FileWritingUtility.WriteResult.Success.class);
+			assertThat(Files.readString(filePath))
+					.as("File content should match the written content")
+					.isEqualTo("Content");
+		}
+
+		@Test
+		@DisplayName("Test SKIP_UNCHANGED without OVERWRITE_EXISTING")
+		void writeFile_skipUnchangedWithoutOverwrite() throws IOException
+		{
+			Path filePath = sharedTempDir.resolve("skip_unchanged_no_overwrite.txt");
+			Files.writeString(filePath, "Content");
+
+			assertThat(FileWritingUtility.writeFile(filePath, "Content", FileWritingUtility.WriteOption.SKIP_UNCHANGED))
+					.as("Identical content should be reported as unchanged")
+					.isInstanceOf(FileWritingUtility.WriteResult.Unchanged.class);
+			assertThat(FileWritingUtility.writeFile(filePath, "Other", FileWritingUtility.WriteOption.SKIP_UNCHANGED))
+					.as("Different content should still not overwrite the file")
+					.isInstanceOf(FileWritingUtility.WriteResult.FileAlreadyExists.class);
+		}
+
+		@Test
+		@DisplayName("Test SKIP_UNCHANGED together with MERGE")
+		void writeFile_skipUnchangedWithMerge() throws IOException
+		{
+			Path filePath = sharedTempDir.resolve("skip_unchanged_merge.txt");
+			Files.writeString(filePath, "Content");
+
+			FileWritingUtility.WriteResult result = FileWritingUtility.writeFile(filePath, "Content",
+					FileWritingUtility.WriteOption.MERGE, FileWritingUtility.WriteOption.SKIP_UNCHANGED);
+
+			assertThat(result)
+					.as("Merging should ignore SKIP_UNCHANGED")
+					.isInstanceOf(FileWritingUtility.WriteResult.Success.class);
+			assertThat(Files.readString(filePath))
+					.as("Merged content should be appended")
+					.isEqualTo("ContentContent");
+		}
+	}
+
+	@Nested
+	@DisplayName("PARENT_EXISTS Tests")
+	class ParentExistsTests
+	{
+		@Test
+		@DisplayName("Test PARENT_EXISTS with an existing parent directory")
+		void writeFile_parentExists() throws IOException
+		{
+			Path filePath = Files.createDirectories(sharedTempDir.resolve("parent_exists")).resolve("file.txt");
+
+			assertThat(FileWritingUtility.writeFile(filePath, "Content", FileWritingUtility.WriteOption.PARENT_EXISTS))
+					.as("Writing into an existing directory should succeed")
+					.isInstanceOf(FileWritingUtility.WriteResult.Success.class);
+			assertThat(Files.readString(filePath))
+					.as("File content should match the written content")
+					.isEqualTo("Content");
+		}
+
+		@Test
+		@DisplayName("Test PARENT_EXISTS with a missing parent directory")
+		void writeFile_parentMissing()
+		{
+			Path filePath = sharedTempDir.resolve("parent_missing").resolve("file.txt");
+
+			assertThat(FileWritingUtility.writeFile(filePath, "Content", FileWritingUtility.WriteOption.PARENT_EXISTS,
+					FileWritingUtility.WriteOption.CREATE_DIRECTORIES))
+					.as("A missing parent is neither checked nor created")
+					.isInstanceOf(FileWritingUtility.WriteResult.Error.class);
+			assertThat(Files.exists(filePath.getParent()))
+					.as("The parent directory should not be created")
+					.isFalse();
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import de.gupta.commons.utility.javaLanguage.JavaLexer.Token;
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JavaLexer Tests")
+final class JavaLexerTest
+{
+	private static List<TokenKind> kindsOf(final String source)
+	{
+		return JavaLexer.tokenize(source).stream().map(Token::kind).toList();
+	}
+
+	private static List<String> significantTextsOf(final String source)
+	{
+		return JavaLexer.tokenize(source)
+						.stream()
+						.filter(token -> token.kind().isSignificant())
+						.map(token -> token.text(source))
+						.toList();
+	}
+
+	@Nested
+	@DisplayName("Token Kind Tests")
+	class TokenKindTests
+	{
+		private static Stream<Arguments> singleTokenProvider()
+		{
+			return Stream.of(
+					Arguments.of("// comment", TokenKind.LINE_COMMENT, "Line comment"),
+					Arguments.of("/* comment */", TokenKind.BLOCK_COMMENT, "Block comment"),
+					Arguments.of("/** javadoc */", TokenKind.BLOCK_COMMENT, "Javadoc comment"),
+					Arguments.of("\"text // not a comment\"", TokenKind.STRING, "Line comment marker inside string"),
+					Arguments.of("\"escaped \\\" quote\"", TokenKind.STRING, "Escaped quote inside string"),
+					Arguments.of("\"\"\"\n  \"quoted\" /* text */\n  \"\"\"", TokenKind.TEXT_BLOCK, "Text block"),
+					Arguments.of("'\"'", TokenKind.CHARACTER, "Quote inside char literal"),
+					Arguments.of("'\\''", TokenKind.CHARACTER, "Escaped apostrophe inside char literal"),
+					Arguments.of("myName", TokenKind.IDENTIFIER, "Identifier"),
+					Arguments.of("$value_1", TokenKind.IDENTIFIER, "Identifier with dollar and underscore"),
+					Arguments.of("record", TokenKind.IDENTIFIER, "Contextual keyword is an identifier"),
+					Arguments.of("package", TokenKind.KEYWORD, "Reserved keyword"),
+					Arguments.of("0x1F_FFL", TokenKind.NUMBER, "Hexadecimal number"),
+					Arguments.of("1.5e-3", TokenKind.NUMBER, "Number with signed exponent"),
+					Arguments.of(".5f", TokenKind.NUMBER, "Number starting with a period"),
+					Arguments.of(";", TokenKind.SEPARATOR, "Separator"),
+					Arguments.of("+", TokenKind.OPERATOR, "Operator"),
+					Arguments.of(" \t ", TokenKind.WHITESPACE, "Whitespace"),
+					Arguments.of("\r\n", TokenKind.LINE_TERMINATOR, "Windows line terminator")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("singleTokenProvider")
+		@DisplayName("Test that a whole input forms exactly one token of the expected kind")
+		void singleToken(String source, TokenKind expected, String testDescription)
+		{
+			assertThat(JavaLexer.tokenize(source)).as(testDescription)
+												  .containsExactly(new Token(expected, 0, source.length()));
+		}
+
+		@Test
+		@DisplayName("Line terminators should be separate from surrounding whitespace")
+		void lineTerminators()
+		{
+			assertThat(kindsOf("a \n\tb\rc")).containsExactly(TokenKind.IDENTIFIER, TokenKind.WHITESPACE,
+					TokenKind.LINE_TERMINATOR, TokenKind.WHITESPACE, TokenKind.IDENTIFIER, TokenKind.LINE_TERMINATOR,
+					TokenKind.IDENTIFIER);
+		}
+	}
+
+	@Nested
+	@DisplayName("Token Stream Tests")
+	class TokenStreamTests
+	{
+		private static Stream<Arguments> significantTokenProvider()
+		{
+			return Stream.of(
+					Arguments.of("package com.example; // trailing", List.of("package", "com", ".", "example", ";"),
+							"Comments should not be significant"),
+					Arguments.of("String s = \"a // b\"; int x;",
+							List.of("String", "s", "=", "\"a // b\"", ";", "int", "x", ";"),
+							"Line comment marker inside a string should not end the line"),
+					Arguments.of("char c = '\"'; /* c */ int y;",
+							List.of("char", "c", "=", "'\"'", ";", "int", "y", ";"),
+							"Quote inside a char literal should not open a string"),
+					Arguments.of("List<Map<String, Integer>> m;",
+							List.of("List", "<", "Map", "<", "String", ",", "Integer", ">", ">", "m", ";"),
+							"Closing generics should be separate operator tokens"),
+					Arguments.of("String s = \"unterminated\nint z;", List.of("String", "s", "=", "\"unterminated",
+							"int", "z", ";"), "Unterminated string should end at the line terminator")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("significantTokenProvider")
+		@DisplayName("Test the significant tokens of a source")
+		void significantTokens(String source, List<String> expected, String testDescription)
+		{
+			assertThat(significantTextsOf(source)).as(testDescription).containsExactlyElementsOf(expected);
+		}
+
+		@Test
+		@DisplayName("Tokens should cover the source without gaps")
+		void tokensCoverSource()
+		{
+			String source = "/** doc */\npublic final class A<T>\n{\n\tString s = \"\"\"\n\t\tx\"\"\";\n\tchar c = 'y';\n}\n";
+			List<Token> tokens = JavaLexer.tokenize(source);
+
+			StringBuilder rebuilt = new StringBuilder();
+			int expectedStart = 0;
+			for (Token token : tokens)
+			{
+				assertThat(token.start()).isEqualTo(expectedStart);
+				rebuilt.append(token.text(source));
+				expectedStart = token.end();
+			}
+			assertThat(rebuilt.toString()).isEqualTo(source);
+		}
+
+		@Test
+		@DisplayName("Cursor should report the current token and stop at the end")
+		void cursor()
+		{
+			JavaLexer lexer = JavaLexer.of("int x");
+
+			assertThat(lexer.nextSignificant()).isTrue();
+			assertThat(lexer.kind()).isEqualTo(TokenKind.KEYWORD);
+			assertThat(lexer.textEquals("int")).isTrue();
+			assertThat(lexer.nextSignificant()).isTrue();
+			assertThat(lexer.text()).isEqualTo("x");
+			assertThat(lexer.start()).isEqualTo(4);
+			assertThat(lexer.nextSignificant()).isFalse();
+			assertThat(lexer.next()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Null source should throw IllegalArgumentException")
+		void nullSource()
+		{
+			assertThatThrownBy(() -> JavaLexer.of(null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Block Comment Tests")
+	class BlockCommentTests
+	{
+		@Test
+		@DisplayName("Block comments should not nest by default")
+		void notNested()
+		{
+			assertThat(significantTextsOf("/* a /* b */ c */")).containsExactly("c", "*", "/");
+		}
+
+		@Test
+		@DisplayName("Block comments should nest when requested")
+		void nested()
+		{
+			JavaLexer lexer = JavaLexer.withNestedComments("/* a /* b */ c */x");
+
+			assertThat(lexer.next()).isTrue();
+			assertThat(lexer.kind()).isEqualTo(TokenKind.BLOCK_COMMENT);
+			assertThat(lexer.end()).isEqualTo(17);
+			assertThat(lexer.nextSignificant()).isTrue();
+			assertThat(lexer.text()).isEqualTo("x");
+		}
+
+		@Test
+		@DisplayName("Unterminated block comment should run to the end of the source")
+		void unterminated()
+		{
+			assertThat(kindsOf("x /* open")).containsExactly(TokenKind.IDENTIFIER, TokenKind.WHITESPACE,
+					TokenKind.BLOCK_COMMENT);
+		}
+	}
+}
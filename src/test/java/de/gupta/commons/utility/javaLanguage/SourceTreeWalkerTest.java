@@ -0,0 +1,82 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SourceTreeWalker Tests")
+final class SourceTreeWalkerTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	private static Path tree(final String name) throws IOException
+	{
+		Path root = sharedTempDir.resolve(name);
+		for (int i = 0; i < 50; i++)
+		{
+			Path file = root.resolve("module" + (i % 3) + "/pkg" + (i % 5) + "/Type" + i + ".java");
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, "class Type" + i + " {}\n");
+		}
+		Files.writeString(root.resolve("module0/readme.txt"), "not a source");
+		Files.createDirectories(root.resolve("module1/Folder.java"));
+		return root;
+	}
+
+	@Test
+	@DisplayName("Every Java source file should be handed to the task once")
+	void walk() throws IOException
+	{
+		Path root = tree("walk");
+		Set<Path> visited = ConcurrentHashMap.newKeySet();
+
+		List<Path> unreadable = SourceTreeWalker.walk(root, 4, visited::add);
+
+		assertThat(visited).hasSize(50);
+		assertThat(visited.stream().allMatch(file -> file.toString().endsWith(".java"))).isTrue();
+		assertThat(unreadable).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Exceptions thrown by the task should be rethrown after the walk")
+	void failures() throws IOException
+	{
+		Path root = tree("failures");
+		Set<Path> visited = ConcurrentHashMap.newKeySet();
+
+		assertThatThrownBy(() -> SourceTreeWalker.walk(root, 4, file ->
+		{
+			visited.add(file);
+			if (file.getFileName().toString().equals("Type7.java"))
+			{
+				throw new IllegalStateException("broken " + file.getFileName());
+			}
+		})).isInstanceOf(IllegalStateException.class).hasMessage("broken Type7.java");
+		assertThat(visited).hasSize(50);
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		assertThatThrownBy(() -> SourceTreeWalker.walk(null, 1, _ -> {}))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SourceTreeWalker.walk(sharedTempDir.resolve("missing"), 1, _ -> {}))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SourceTreeWalker.walk(sharedTempDir, 0, _ -> {}))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SourceTreeWalker.walk(sharedTempDir, 1, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
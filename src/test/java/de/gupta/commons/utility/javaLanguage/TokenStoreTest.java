@@ -0,0 +1,167 @@
+package de.gupta.commons.utility.javaLanguage;
+
+import de.gupta.commons.utility.javaLanguage.JavaLexer.Token;
+import de.gupta.commons.utility.javaLanguage.JavaLexer.TokenKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenStore Tests")
+final class TokenStoreTest
+{
+	private static final String SOURCE = """
+			package com.example; // the package
+
+			/* a block
+			   comment */
+			public class Customer
+			{
+				String name = "/* not a comment */";
+			}
+			""";
+
+	private static List<Token> tokensOf(final TokenStore store)
+	{
+		List<Token> tokens = new ArrayList<>();
+		for (int i = 0; i < store.size(); i++)
+		{
+			tokens.add(new Token(store.kind(i), store.start(i), store.end(i)));
+		}
+		return tokens;
+	}
+
+	@Nested
+	@DisplayName("Lexing Tests")
+	class LexingTests
+	{
+		@Test
+		@DisplayName("Stored tokens should match the lexer output")
+		void matchesLexer()
+		{
+			assertThat(tokensOf(TokenStore.of(SOURCE))).isEqualTo(JavaLexer.tokenize(SOURCE));
+		}
+
+		@Test
+		@DisplayName("Stored tokens should match the lexer output for a real source file")
+		void matchesLexerForSourceFile() throws IOException
+		{
+			String source = Files.readString(
+					Path.of("src/main/java/de/gupta/commons/utility/javaLanguage/JavaLexer.java"));
+
+			assertThat(tokensOf(TokenStore.of(source.toCharArray()))).isEqualTo(JavaLexer.tokenize(source));
+		}
+
+		@Test
+		@DisplayName("Nested comments should be a single token when requested")
+		void nestedComments()
+		{
+			String source = "/* a /* b */ c */x";
+
+			assertThat(TokenStore.withNestedComments(source).size()).isEqualTo(2);
+			assertThat(TokenStore.of(source).count(TokenKind.BLOCK_COMMENT)).isEqualTo(1);
+			assertThat(TokenStore.of(source).count(TokenKind.IDENTIFIER)).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Empty source should have no tokens")
+		void empty()
+		{
+			TokenStore store = TokenStore.of("");
+
+			assertThat(store.size()).isZero();
+			assertThat(store.cursor().next()).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("Access Tests")
+	class AccessTests
+	{
+		@Test
+		@DisplayName("Token text should be read from the stored source")
+		void text()
+		{
+			TokenStore store = TokenStore.of(SOURCE);
+
+			assertThat(store.text(0)).isEqualTo("package");
+			assertThat(store.textEquals(0, "package")).isTrue();
+			assertThat(store.textEquals(0, "packag")).isFalse();
+			assertThat(store.kind(0)).isEqualTo(TokenKind.KEYWORD);
+		}
+
+		@Test
+		@DisplayName("The token containing an offset should be found")
+		void indexAt()
+		{
+			TokenStore store = TokenStore.of(SOURCE);
+			int offset = SOURCE.indexOf("Customer") + 3;
+
+			assertThat(store.text(store.indexAt(offset))).isEqualTo("Customer");
+			assertThat(store.indexAt(0)).isZero();
+			assertThat(store.indexAt(SOURCE.length() - 1)).isEqualTo(store.size() - 1);
+		}
+
+		@Test
+		@DisplayName("Out of range indices should be rejected")
+		void outOfRange()
+		{
+			TokenStore store = TokenStore.of("a b");
+
+			assertThatThrownBy(() -> store.kind(3)).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(() -> store.indexAt(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(() -> TokenStore.of((String) null)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> TokenStore.of((char[]) null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Cursor Tests")
+	class CursorTests
+	{
+		@Test
+		@DisplayName("Significant tokens should be visited in order")
+		void significant()
+		{
+			TokenStore.Cursor cursor = TokenStore.of(SOURCE).cursor();
+			List<String> texts = new ArrayList<>();
+			while (cursor.nextSignificant())
+			{
+				texts.add(cursor.text());
+			}
+
+			assertThat(texts).containsExactly("package", "com", ".", "example", ";", "public", "class", "Customer",
+					"{", "String", "name", "=", "\"/* not a comment */\"", ";", "}");
+		}
+
+		@Test
+		@DisplayName("The cursor should walk back and seek to a token")
+		void backAndSeek()
+		{
+			TokenStore store = TokenStore.of("a /* c */ b");
+			TokenStore.Cursor cursor = store.cursor();
+
+			cursor.seek(store.size());
+			assertThat(cursor.next()).isFalse();
+			assertThat(cursor.previousSignificant()).isTrue();
+			assertThat(cursor.textEquals("b")).isTrue();
+			assertThat(cursor.previousSignificant()).isTrue();
+			assertThat(cursor.textEquals("a")).isTrue();
+			assertThat(cursor.previousSignificant()).isFalse();
+
+			cursor.seek(2);
+			assertThat(cursor.next()).isTrue();
+			assertThat(cursor.kind()).isEqualTo(TokenKind.BLOCK_COMMENT);
+			assertThat(cursor.start()).isEqualTo(2);
+			assertThat(cursor.end()).isEqualTo(9);
+		}
+	}
+}
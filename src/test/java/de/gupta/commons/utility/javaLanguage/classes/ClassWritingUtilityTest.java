@@ -0,0 +1,262 @@
+package de.gupta.commons.utility.javaLanguage.classes;
+
+import de.gupta.commons.utility.io.write.FileWritingUtility.WriteResult;
+import de.gupta.commons.utility.javaLanguage.classes.ClassWritingUtility.BatchWriteResult;
+import de.gupta.commons.utility.javaLanguage.classes.ClassWritingUtility.GeneratedClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ClassWritingUtility Tests")
+final class ClassWritingUtilityTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	private static GeneratedClass generatedClass(final String packageName, final String name)
+	{
+		return new GeneratedClass(name + ".java", "package " + packageName + ";\n\npublic class " + name + " {}\n");
+	}
+
+	@Nested
+	@DisplayName("Batch Writing Tests")
+	class BatchWritingTests
+	{
+		@Test
+		@DisplayName("Classes should be written into their package directories")
+		void writeClasses() throws IOException
+		{
+			Path root = sharedTempDir.resolve("batch");
+			List<GeneratedClass> classes = IntStream.range(0, 300)
+													.mapToObj(i -> generatedClass("com.example.p" + (i % 7), "Type" + i))
+													.toList();
+
+			BatchWriteResult result = ClassWritingUtility.writeClasses(classes, root, false, 16);
+
+			assertThat(result.results()).hasSize(300);
+			assertThat(result.successCount()).isEqualTo(300L);
+			assertThat(result.packageDirectories()).isEqualTo(7);
+			assertThat(result.elapsed().isNegative()).isFalse();
+			assertThat(Files.readString(root.resolve("com/example/p3/Type10.java"))).contains("class Type10");
+		}
+
+		@Test
+		@DisplayName("Existing files should be reported unless overwriting")
+		void existingFiles() throws IOException
+		{
+			Path root = sharedTempDir.resolve("existing");
+			List<GeneratedClass> first = List.of(generatedClass("com.example", "Order"));
+			ClassWritingUtility.writeClasses(first, root, false);
+
+			BatchWriteResult kept = ClassWritingUtility.writeClasses(
+					List.of(new GeneratedClass("Order.java", "package com.example;\nclass Order { int changed; }\n")),
+					root, false);
+			assertThat(kept.results().get(root.resolve("com/example/Order.java")))
+					.isInstanceOf(WriteResult.FileAlreadyExists.class);
+			assertThat(Files.readString(root.resolve("com/example/Order.java"))).doesNotContain("changed");
+
+			BatchWriteResult overwritten = ClassWritingUtility.writeClasses(
+					List.of(new GeneratedClass("Order.java", "package com.example;\nclass Order { int changed; }\n")),
+					root, true);
+			assertThat(overwritten.successCount()).isEqualTo(1L);
+			assertThat(Files.readString(root.resolve("com/example/Order.java"))).contains("changed");
+		}
+
+		@Test
+		@DisplayName("Classes without a package should be reported per file")
+		void failures()
+		{
+			Path root = sharedTempDir.resolve("failures");
+			List<GeneratedClass> classes = List.of(generatedClass("com.example", "Customer"),
+					new GeneratedClass("Loose.java", "class Loose {}\n"));
+
+			BatchWriteResult result = ClassWritingUtility.writeClasses(classes, root, true);
+
+			assertThat(result.successCount()).isEqualTo(1L);
+			assertThat(result.failures()).hasSize(1);
+			assertThat(result.failures().get(root.resolve("Loose.java"))).isInstanceOf(WriteResult.Error.class);
+			assertThat(Files.exists(root.resolve("com/example/Customer.java"))).isTrue();
+		}
+
+		@Test
+		@DisplayName("Two classes for the same file should be rejected before anything is written")
+		void duplicates()
+		{
+			Path root = sharedTempDir.resolve("duplicates");
+			List<GeneratedClass> classes = List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example", "Customer"));
+
+			assertThatThrownBy(() -> ClassWritingUtility.writeClasses(classes, root, true))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThat(Files.exists(root)).isFalse();
+		}
+
+		@Test
+		@DisplayName("Only classes whose content changed should be rewritten")
+		void changedClasses() throws IOException
+		{
+			Path root = sharedTempDir.resolve("changed");
+			List<GeneratedClass> first = List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example", "Order"));
+			ClassWritingUtility.writeChangedClasses(first, root);
+			Path customer = root.resolve("com/example/Customer.java");
+			FileTime written = FileTime.fromMillis(0);
+			Files.setLastModifiedTime(customer, written);
+
+			BatchWriteResult result = ClassWritingUtility.writeChangedClasses(List.of(
+					generatedClass("com.example", "Customer"),
+					new GeneratedClass("Order.java", "package com.example;\nclass Order { int changed; }\n")), root);
+
+			assertThat(result.unchangedCount()).isEqualTo(1L);
+			assertThat(result.successCount()).isEqualTo(1L);
+			assertThat(result.failures()).isEmpty();
+			assertThat(result.results().get(customer)).isInstanceOf(WriteResult.Unchanged.class);
+			assertThat(Files.getLastModifiedTime(customer)).isEqualTo(written);
+			assertThat(Files.readString(root.resolve("com/example/Order.java"))).contains("changed");
+		}
+	}
+
+	@Nested
+	@DisplayName("Sync Tests")
+	class SyncTests
+	{
+		@Test
+		@DisplayName("Classes no longer generated should be deleted with their empty packages")
+		void pruneStale() throws IOException
+		{
+			Path root = sharedTempDir.resolve("sync_prune");
+			ClassWritingUtility.syncClasses(List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example.legacy", "Old")), root);
+			Path handWritten = root.resolve("com/example/HandWritten.java");
+			Files.writeString(handWritten, "package com.example;\nclass HandWritten {}\n");
+
+			ClassWritingUtility.SyncResult result = ClassWritingUtility.syncClasses(
+					List.of(generatedClass("com.example", "Customer")), root);
+
+			assertThat(result.deleted()).containsExactly(root.resolve("com/example/legacy/Old.java"));
+			assertThat(result.retained()).isEmpty();
+			assertThat(Files.exists(root.resolve("com/example/legacy"))).isFalse();
+			assertThat(Files.exists(handWritten)).as("Files outside the manifest should be kept").isTrue();
+			assertThat(GeneratedSourceManifest.read(root).files())
+					.containsExactly(Path.of("com", "example", "Customer.java"));
+		}
+
+		@Test
+		@DisplayName("Classes recorded in the manifest with the same content should not be rewritten")
+		void skipUnchanged() throws IOException
+		{
+			Path root = sharedTempDir.resolve("sync_unchanged");
+			List<GeneratedClass> classes = List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example", "Order"));
+			ClassWritingUtility.SyncResult first = ClassWritingUtility.syncClasses(classes, root);
+			Path customer = root.resolve("com/example/Customer.java");
+			FileTime written = FileTime.fromMillis(0);
+			Files.setLastModifiedTime(customer, written);
+
+			ClassWritingUtility.SyncResult second = ClassWritingUtility.syncClasses(List.of(
+					generatedClass("com.example", "Customer"),
+					new GeneratedClass("Order.java", "package com.example;\nclass Order { int changed; }\n")), root);
+
+			assertThat(first.written().successCount()).isEqualTo(2L);
+			assertThat(second.written().unchangedCount()).isEqualTo(1L);
+			assertThat(second.written().successCount()).isEqualTo(1L);
+			assertThat(Files.getLastModifiedTime(customer)).isEqualTo(written);
+			assertThat(GeneratedSourceManifest.read(root).entry(Path.of("com", "example", "Order.java")))
+					.contains(GeneratedSourceManifest.entryOf("package com.example;\nclass Order { int changed; }\n"));
+		}
+
+		@Test
+		@DisplayName("Generated files edited or removed since the last run should be written again")
+		void restoreEdited() throws IOException
+		{
+			Path root = sharedTempDir.resolve("sync_edited");
+			List<GeneratedClass> classes = List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example", "Order"));
+			ClassWritingUtility.syncClasses(classes, root);
+			Files.writeString(root.resolve("com/example/Customer.java"), "edited");
+			Files.delete(root.resolve("com/example/Order.java"));
+
+			ClassWritingUtility.SyncResult result = ClassWritingUtility.syncClasses(classes, root);
+
+			assertThat(result.written().successCount()).isEqualTo(2L);
+			assertThat(Files.readString(root.resolve("com/example/Customer.java"))).contains("class Customer");
+			assertThat(Files.exists(root.resolve("com/example/Order.java"))).isTrue();
+		}
+
+		@Test
+		@DisplayName("Classes that fail should be left out of the manifest but not deleted")
+		void failures()
+		{
+			Path root = sharedTempDir.resolve("sync_failures");
+			ClassWritingUtility.syncClasses(List.of(generatedClass("com.example", "Customer")), root);
+			List<GeneratedClass> classes = List.of(generatedClass("com.example", "Customer"),
+					new GeneratedClass("Loose.java", "class Loose {}"));
+
+			ClassWritingUtility.SyncResult result = ClassWritingUtility.syncClasses(classes, root);
+
+			assertThat(result.written().failures()).hasSize(1);
+			assertThat(result.deleted()).isEmpty();
+			assertThat(GeneratedSourceManifest.read(root).files())
+					.containsExactly(Path.of("com", "example", "Customer.java"));
+		}
+
+		@Test
+		@DisplayName("A previously written class that fails should stay in the manifest and be pruned later")
+		void failedRewrite() throws IOException
+		{
+			Path root = sharedTempDir.resolve("sync_failed_rewrite");
+			ClassWritingUtility.syncClasses(List.of(generatedClass("com.example", "Customer"),
+					generatedClass("com.example", "Order")), root);
+			// A directory in place of the file makes the rewrite fail
+			Path order = root.resolve("com/example/Order.java");
+			Files.delete(order);
+			Files.createDirectories(order);
+
+			ClassWritingUtility.SyncResult failed = ClassWritingUtility.syncClasses(List.of(
+					generatedClass("com.example", "Customer"), generatedClass("com.example", "Order")), root);
+
+			assertThat(failed.written().failures().keySet()).containsExactly(order);
+			assertThat(GeneratedSourceManifest.read(root).files()).contains(Path.of("com", "example", "Order.java"));
+
+			ClassWritingUtility.SyncResult dropped = ClassWritingUtility.syncClasses(
+					List.of(generatedClass("com.example", "Customer")), root);
+
+			assertThat(dropped.deleted()).containsExactly(order);
+			assertThat(Files.exists(order)).isFalse();
+			assertThat(GeneratedSourceManifest.read(root).files())
+					.containsExactly(Path.of("com", "example", "Customer.java"));
+		}
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		assertThatThrownBy(() -> ClassWritingUtility.writeClasses(null, sharedTempDir, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ClassWritingUtility.writeClasses(List.of(), null, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ClassWritingUtility.writeClasses(List.of(), sharedTempDir, true, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ClassWritingUtility.syncClasses(List.of(), null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GeneratedClass(" ", "class A {}")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GeneratedClass("../X.java", "package a;\nclass X {}"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GeneratedClass("a/B.java", "package a;\nclass B {}"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GeneratedClass("a\\B.java", "package a;\nclass B {}"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,92 @@
+package de.gupta.commons.utility.javaLanguage.classes;
+
+import de.gupta.commons.utility.javaLanguage.classes.GeneratedSourceManifest.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GeneratedSourceManifest Tests")
+final class GeneratedSourceManifestTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	@Test
+	@DisplayName("A written manifest should read back with the same entries")
+	void roundTrip()
+	{
+		Path root = sharedTempDir.resolve("roundTrip");
+		Path order = Path.of("com", "example", "Order.java");
+		Path spaced = Path.of("com", "example", "With Space.java");
+		GeneratedSourceManifest manifest = GeneratedSourceManifest.of(Map.of(
+				order, GeneratedSourceManifest.entryOf("class Order {}"),
+				spaced, GeneratedSourceManifest.entryOf("")));
+
+		manifest.write(root);
+		GeneratedSourceManifest read = GeneratedSourceManifest.read(root);
+
+		assertThat(read.files()).containsExactlyInAnyOrder(order, spaced);
+		assertThat(read.entry(order)).contains(GeneratedSourceManifest.entryOf("class Order {}"));
+		assertThat(read.entry(spaced).map(Entry::size)).contains(0L);
+		assertThat(Files.exists(root.resolve(GeneratedSourceManifest.FILE_NAME + ".tmp"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("Entries should be the size and SHA-256 of the UTF-8 content")
+	void entries()
+	{
+		Entry entry = GeneratedSourceManifest.entryOf("abc");
+
+		assertThat(entry.hash()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+		assertThat(entry.size()).isEqualTo(3L);
+		assertThat(GeneratedSourceManifest.entryOf("ü").size()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("A missing manifest should read as empty")
+	void missing()
+	{
+		assertThat(GeneratedSourceManifest.read(sharedTempDir.resolve("missing")).size()).isZero();
+	}
+
+	@Test
+	@DisplayName("Damaged lines and paths leaving the root should be ignored")
+	void damaged() throws IOException
+	{
+		Path root = sharedTempDir.resolve("damaged");
+		Files.createDirectories(root);
+		Files.writeString(root.resolve(GeneratedSourceManifest.FILE_NAME), """
+				abc 3 com/example/Kept.java
+				abc three com/example/BadSize.java
+				abc 3 ../outside/Escape.java
+				abc 3 com/../../Escape.java
+				abc 3 /absolute/Escape.java
+				abc 3 com//Empty.java
+				garbage
+				""");
+
+		GeneratedSourceManifest manifest = GeneratedSourceManifest.read(root);
+
+		assertThat(manifest.files()).containsExactly(Path.of("com", "example", "Kept.java"));
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		assertThatThrownBy(() -> GeneratedSourceManifest.of(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> GeneratedSourceManifest.of(Map.of(Path.of("..", "A.java"),
+				GeneratedSourceManifest.entryOf("")))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> GeneratedSourceManifest.read(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> GeneratedSourceManifest.entryOf(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new Entry("a b", 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -1,6 +1,7 @@
 package de.gupta.commons.utility.javaLanguage.code;
 
 import de.gupta.commons.utility.javaLanguage.code.type.CodeTypeAnalysisUtility;
+import de.gupta.commons.utility.javaLanguage.code.type.NoDeclarationsFoundException;
 import de.gupta.commons.utility.javaLanguage.code.type.TypeDeclaration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("CodeTypeAnalysisUtility Tests")
 class CodeTypeAnalysisUtilityTest
@@ -289,4 +291,90 @@ class CodeTypeAnalysisUtilityTest
 			).map(tc -> Arguments.of(tc.input(), tc.expectedName(), tc.expectedPublic(), tc.description()));
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("findUniqueTypeName Tests")
+	class FindUniqueTypeNameTests
+	{
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("uniqueTypeNameProvider")
+		@DisplayName("Test finding the unique top-level type of a source")
+		void findUniqueTypeName(String sourceCode, String expectedName, String testDescription)
+		{
+			assertThat(CodeTypeAnalysisUtility.findUniqueTypeName(sourceCode)).as(testDescription)
+																			   .isEqualTo(expectedName);
+		}
+
+		@ParameterizedTest(name = "{1}")
+		@MethodSource("noUniqueTypeNameProvider")
+		@DisplayName("Test sources without a unique top-level type")
+		void findUniqueTypeName_noUniqueType(String sourceCode, String testDescription)
+		{
+			assertThatThrownBy(() -> CodeTypeAnalysisUtility.findUniqueTypeName(sourceCode))
+					.as(testDescription)
+					.isInstanceOf(NoDeclarationsFoundException.class);
+		}
+
+		@ParameterizedTest(name = "{1}")
+		@MethodSource("blankSourceProvider")
+		@DisplayName("Test null and blank sources")
+		void findUniqueTypeName_blankSource(String sourceCode, String testDescription)
+		{
+			assertThatThrownBy(() -> CodeTypeAnalysisUtility.findUniqueTypeName(sourceCode))
+					.as(testDescription)
+					.isInstanceOf(EmptySourceCodeException.class);
+		}
+
+		private static Stream<Arguments> uniqueTypeNameProvider()
+		{
+			return Stream.of(
+					Arguments.of("package a;\n\npublic class MyClass\n{\n}", "MyClass",
+							"Single public class"),
+					Arguments.of("public class MyClass {\n\tpublic static class Inner {}\n}", "MyClass",
+							"Nested public types should not count"),
+					Arguments.of("public final class Outer\n{\n\tpublic sealed interface Result permits A {}\n" +
+							"\tpublic record A(int x) implements Result {}\n}", "Outer",
+							"Nested sealed interface and record should not count"),
+					Arguments.of("class Helper {}\npublic class Main {}", "Main",
+							"Public type should win over package-private types"),
+					Arguments.of("class Helper {}\nclass Other {}\npublic class Main {}", "Main",
+							"Unique public type should win over several package-private types"),
+					Arguments.of("public enum Colour { RED, GREEN }", "Colour", "Enum declaration"),
+					Arguments.of("@Retention(RUNTIME)\npublic @interface Marker {}", "Marker",
+							"Annotation type declaration"),
+					Arguments.of("public sealed interface Shape permits Circle, Square {}", "Shape",
+							"Sealed interface"),
+					Arguments.of("public non-sealed class Open extends Shape {}", "Open", "Non-sealed class"),
+					Arguments.of("public record Point(int x, int y) {}", "Point", "Record with components"),
+					Arguments.of("public class Generic<T extends Comparable<T>> {}", "Generic", "Generic class"),
+					Arguments.of("/* public class Commented {} */\nclass Real {}", "Real",
+							"Declarations in comments should be ignored"),
+					Arguments.of("class Real { String s = \"public class Fake {}\"; }", "Real",
+							"Declarations in strings should be ignored"),
+					Arguments.of("class Real { Class<?> c = Object.class; }", "Real",
+							"Class literals should not count as declarations"),
+					Arguments.of("@Deprecated(since = \"1\")\npublic\nclass\nSpread\n{\n}", "Spread",
+							"Declaration spread over several lines")
+			);
+		}
+
+		private static Stream<Arguments> noUniqueTypeNameProvider()
+		{
+			return Stream.of(
+					Arguments.of("package a;\nimport b.C;", "No declarations at all"),
+					Arguments.of("class First {}\nclass Second {}", "Two package-private types"),
+					Arguments.of("public class First {}\npublic class Second {}\nclass A {}\nclass B {}",
+							"Two public and two package-private types")
+			);
+		}
+
+		private static Stream<Arguments> blankSourceProvider()
+		{
+			return Stream.of(
+					Arguments.of(null, "Null source"),
+					Arguments.of("", "Empty source"),
+					Arguments.of("  \n\t ", "Blank source")
+			);
+		}
+	}
+}
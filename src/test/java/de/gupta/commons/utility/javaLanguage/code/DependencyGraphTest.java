@@ -0,0 +1,184 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DependencyGraph Tests")
+final class DependencyGraphTest
+{
+	// app -> service -> model, service -> util, model <-> audit
+	private static DependencyGraph<String> sample()
+	{
+		return DependencyGraph.<String>builder()
+							  .addDependency("app", "service")
+							  .addDependency("service", "model")
+							  .addDependency("service", "util")
+							  .addDependency("model", "audit")
+							  .addDependency("audit", "model")
+							  .addNode("standalone")
+							  .build();
+	}
+
+	@Nested
+	@DisplayName("Query Tests")
+	class QueryTests
+	{
+		@Test
+		@DisplayName("Direct dependencies and dependents should be reported")
+		void direct()
+		{
+			DependencyGraph<String> graph = sample();
+
+			assertThat(graph.dependenciesOf("service")).containsExactly("model", "util");
+			assertThat(graph.dependentsOf("model")).containsExactlyInAnyOrder("service", "audit");
+			assertThat(graph.dependentsOf("standalone")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Transitive dependents should include everything affected by a change")
+		void transitive()
+		{
+			DependencyGraph<String> graph = sample();
+
+			assertThat(graph.transitiveDependentsOf(Set.of("util"))).containsExactlyInAnyOrder("service", "app");
+			assertThat(graph.transitiveDependentsOf(Set.of("model"))).containsExactlyInAnyOrder("audit", "model",
+					"service", "app");
+			assertThat(graph.transitiveDependentsOf(Set.of("app"))).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Unknown nodes should throw IllegalArgumentException")
+		void unknownNode()
+		{
+			assertThatThrownBy(() -> sample().dependenciesOf("missing")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> DependencyGraph.<String>builder().addNode(null))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Component Tests")
+	class ComponentTests
+	{
+		@Test
+		@DisplayName("Cycles should be found as strongly connected components")
+		void cycles()
+		{
+			DependencyGraph<String> graph = sample();
+
+			assertThat(graph.cycles()).containsExactly(Set.of("model", "audit"));
+			assertThat(graph.hasCycles()).isTrue();
+			assertThat(graph.stronglyConnectedComponents()).hasSize(5);
+		}
+
+		@Test
+		@DisplayName("A node depending on itself should be a cycle")
+		void selfDependency()
+		{
+			DependencyGraph<String> graph = DependencyGraph.<String>builder().addDependency("a", "a").build();
+
+			assertThat(graph.cycles()).containsExactly(Set.of("a"));
+		}
+
+		@Test
+		@DisplayName("Components should come after the components they depend on")
+		void dependencyOrder()
+		{
+			List<Set<String>> components = sample().stronglyConnectedComponents();
+
+			assertThat(components.indexOf(Set.of("model", "audit"))).isLessThan(components.indexOf(Set.of("service")));
+			assertThat(components.indexOf(Set.of("util"))).isLessThan(components.indexOf(Set.of("service")));
+			assertThat(components.indexOf(Set.of("service"))).isLessThan(components.indexOf(Set.of("app")));
+		}
+
+		@Test
+		@DisplayName("A long chain should not overflow the stack")
+		void longChain()
+		{
+			DependencyGraph.Builder<Integer> builder = DependencyGraph.builder();
+			for (int i = 0; i < 100_000; i++)
+			{
+				builder.addDependency(i, i + 1);
+			}
+
+			DependencyGraph<Integer> graph = builder.build();
+
+			assertThat(graph.hasCycles()).isFalse();
+			assertThat(graph.schedule()).hasSize(100_001);
+		}
+	}
+
+	@Nested
+	@DisplayName("Schedule Tests")
+	class ScheduleTests
+	{
+		@Test
+		@DisplayName("Levels should only depend on earlier levels")
+		void levels()
+		{
+			assertThat(sample().schedule()).containsExactly(
+					List.of(Set.of("model", "audit"), Set.of("util"), Set.of("standalone")),
+					List.of(Set.of("service")),
+					List.of(Set.of("app")));
+		}
+
+		@Test
+		@DisplayName("Execution should process every component after its dependencies")
+		void execute()
+		{
+			List<Set<String>> completed = Collections.synchronizedList(new ArrayList<>());
+			try (ExecutorService executor = Executors.newFixedThreadPool(4))
+			{
+				sample().execute(executor, completed::add);
+			}
+
+			assertThat(completed).hasSize(5);
+			assertThat(completed.indexOf(Set.of("service"))).isGreaterThan(completed.indexOf(Set.of("util")));
+			assertThat(completed.getLast()).isEqualTo(Set.of("app"));
+		}
+	}
+
+	@Test
+	@DisplayName("Files should depend on the files declaring their imports and on the files of their package")
+	void ofImports()
+	{
+		SymbolTable table = SymbolTable.empty();
+		Path customer = Path.of("Customer.java").toAbsolutePath();
+		Path order = Path.of("Order.java").toAbsolutePath();
+		Path service = Path.of("Service.java").toAbsolutePath();
+		Path constants = Path.of("Constants.java").toAbsolutePath();
+		Path otherConstants = Path.of("other", "Constants.java").toAbsolutePath();
+		table.update(customer, "package com.example.model;\npublic class Customer {}\n");
+		table.update(order, "package com.example.model;\nimport java.util.List;\npublic class Order {}\n");
+		table.update(constants, "package com.example.util;\npublic class Constants { static int MAX = 1; }\n");
+		table.update(otherConstants, "package com.example.util;\npublic class Constants { static int MAX = 2; }\n");
+		table.update(service, """
+				package com.example.service;
+				import com.example.model.*;
+				import static com.example.util.Constants.MAX;
+				public class Service {}
+				""");
+
+		DependencyGraph<Path> graph = DependencyGraph.ofImports(table);
+
+		assertThat(graph.dependenciesOf(service)).containsExactlyInAnyOrder(customer, order, constants, otherConstants);
+		assertThat(graph.dependenciesOf(order)).containsExactly(customer);
+		assertThat(graph.dependenciesOf(customer)).containsExactly(order);
+		// Both declare com.example.util.Constants, so they depend on each other as files of one package
+		assertThat(graph.transitiveDependentsOf(Set.of(otherConstants)))
+				.containsExactlyInAnyOrder(service, constants, otherConstants);
+		assertThatThrownBy(() -> DependencyGraph.ofImports(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,89 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PrimaryTypeTracker Tests")
+final class PrimaryTypeTrackerTest
+{
+	@Nested
+	@DisplayName("Primary Type Tests")
+	class PrimaryTypeTests
+	{
+		private static Stream<Arguments> primaryTypeProvider()
+		{
+			return Stream.of(
+					Arguments.of("No types", List.of(), Optional.empty()),
+					Arguments.of("Single public type", List.of(new Type("Customer", true)), Optional.of("Customer")),
+					Arguments.of("Public type wins over non-public",
+							List.of(new Type("Helper", false), new Type("Customer", true)), Optional.of("Customer")),
+					Arguments.of("Repeated public name counts once",
+							List.of(new Type("Customer", true), new Type("Customer", true)), Optional.of("Customer")),
+					Arguments.of("Ambiguous public falls back to non-public",
+							List.of(new Type("A", true), new Type("B", true), new Type("Helper", false)),
+							Optional.of("Helper")),
+					Arguments.of("Ambiguous public and no non-public",
+							List.of(new Type("A", true), new Type("B", true)), Optional.empty()),
+					Arguments.of("Ambiguous non-public only",
+							List.of(new Type("A", false), new Type("B", false)), Optional.empty())
+			);
+		}
+
+		@ParameterizedTest(name = "{0}")
+		@MethodSource("primaryTypeProvider")
+		@DisplayName("Primary type should be the unique public type, else the unique non-public one")
+		void primaryType(final String description, final List<Type> types, final Optional<String> expected)
+		{
+			assertThat(PrimaryTypeTracker.primaryTypeOf(types, Type::name, Type::isPublic).map(Type::name))
+					.isEqualTo(expected);
+		}
+
+		@Test
+		@DisplayName("First declaration of a repeated name should be reported")
+		void firstDeclaration()
+		{
+			final Type first = new Type("Customer", false);
+
+			assertThat(PrimaryTypeTracker.primaryTypeOf(List.of(first, new Type("Customer", false)), Type::name,
+					Type::isPublic)).get().isSameAs(first);
+		}
+
+		@Test
+		@DisplayName("Tracker should be decided once both candidates are ambiguous")
+		void decided()
+		{
+			final PrimaryTypeTracker<String> tracker = PrimaryTypeTracker.create();
+			tracker.accept("A", "A", true);
+			tracker.accept("B", "B", true);
+			tracker.accept("C", "C", false);
+			assertThat(tracker.isDecided()).isFalse();
+
+			tracker.accept("D", "D", false);
+			assertThat(tracker.isDecided()).isTrue();
+			assertThat(tracker.primaryType()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Null arguments should be rejected")
+		void nullArguments()
+		{
+			assertThatThrownBy(() -> PrimaryTypeTracker.primaryTypeOf(null, Type::name, Type::isPublic))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	private record Type(String name, boolean isPublic)
+	{
+	}
+}
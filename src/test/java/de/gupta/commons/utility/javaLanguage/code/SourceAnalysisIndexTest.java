@@ -0,0 +1,252 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.code.SourceAnalysisIndex.SourceAnalysis;
+import de.gupta.commons.utility.javaLanguage.code.SourceAnalysisIndex.TopLevelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SourceAnalysisIndex Tests")
+final class SourceAnalysisIndexTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	private static Path source(final Path directory, final String name, final String packageName) throws IOException
+	{
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve(name + ".java"),
+				"package " + packageName + ";\n\npublic class " + name + "\n{\n\tclass Inner {}\n}\n\nclass Helper {}\n");
+	}
+
+	@Nested
+	@DisplayName("Analysis Tests")
+	class AnalysisTests
+	{
+		@Test
+		@DisplayName("Package and top-level type declarations should be extracted")
+		void analyse() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("analyse");
+			Path file = source(directory, "Customer", "com.example");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(directory.resolve("index.bin")))
+			{
+				SourceAnalysis analysis = index.analyse(file);
+
+				assertThat(analysis.packageName()).contains("com.example");
+				assertThat(analysis.types()).containsExactly(new TopLevelType("Customer", true),
+						new TopLevelType("Helper", false));
+				assertThat(analysis.uniqueTypeName()).contains("Customer");
+			}
+		}
+
+		@Test
+		@DisplayName("Source without a package should have an empty package")
+		void noPackage() throws IOException
+		{
+			Path directory = Files.createDirectories(sharedTempDir.resolve("no-package"));
+			Path file = Files.writeString(directory.resolve("Loose.java"), "class Loose {}\n");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(directory.resolve("index.bin")))
+			{
+				assertThat(index.analyse(file).packageName()).isEmpty();
+				assertThat(index.analyse(file).uniqueTypeName()).contains("Loose");
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("Persistence Tests")
+	class PersistenceTests
+	{
+		@Test
+		@DisplayName("Saved analyses should be available after reopening without re-reading the source")
+		void reopen() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("reopen");
+			Path file = source(directory, "Order", "com.example.order");
+			Path indexFile = directory.resolve("index.bin");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				index.analyse(file);
+			}
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.size()).isEqualTo(1);
+				assertThat(index.cached(file).flatMap(SourceAnalysis::packageName)).contains("com.example.order");
+				assertThat(index.analyse(file).uniqueTypeName()).contains("Order");
+			}
+		}
+
+		@Test
+		@DisplayName("Changed content should be re-analysed")
+		void changedContent() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("changed");
+			Path file = source(directory, "Invoice", "com.example.before");
+			Path indexFile = directory.resolve("index.bin");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				index.analyse(file);
+			}
+			Files.writeString(file, "package com.example.after;\n\npublic class Invoice\n{\n}\n");
+			Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5_000));
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.analyse(file).packageName()).contains("com.example.after");
+				assertThat(index.analyse(file).types()).containsExactly(new TopLevelType("Invoice", true));
+			}
+		}
+
+		@Test
+		@DisplayName("Saved records should count as superseded until compaction")
+		void supersededAfterSave() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("superseded");
+			Path file = source(directory, "Shipment", "com.example");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(directory.resolve("index.bin")))
+			{
+				index.analyse(file);
+				index.save();
+				Files.writeString(file, "package com.example.moved;\nclass Shipment {}\n");
+				Files.setLastModifiedTime(file,
+						FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5_000));
+				index.analyse(file);
+				index.save();
+
+				assertThat(index.supersededRecords()).isEqualTo(1);
+				assertThat(index.compact()).isEqualTo(1);
+				assertThat(index.supersededRecords()).isEqualTo(0);
+			}
+		}
+
+		@Test
+		@DisplayName("Compaction should drop superseded records and deleted files")
+		void compact() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("compact");
+			Path kept = source(directory, "Kept", "com.example");
+			Path deleted = source(directory, "Deleted", "com.example");
+			Path indexFile = directory.resolve("index.bin");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				index.analyse(kept);
+				index.analyse(deleted);
+			}
+			Files.writeString(kept, "package com.example.moved;\nclass Kept {}\n");
+			Files.setLastModifiedTime(kept, FileTime.fromMillis(Files.getLastModifiedTime(kept).toMillis() + 5_000));
+			Files.delete(deleted);
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				index.analyse(kept);
+				index.save();
+			}
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.supersededRecords()).isEqualTo(1);
+				assertThat(index.compact()).isEqualTo(2);
+				assertThat(index.size()).isEqualTo(1);
+				assertThat(index.supersededRecords()).isEqualTo(0);
+				assertThat(index.cached(kept).flatMap(SourceAnalysis::packageName)).contains("com.example.moved");
+				assertThat(index.cached(deleted)).isEmpty();
+			}
+		}
+
+		@Test
+		@DisplayName("A torn record at the end of the file should be discarded")
+		void tornTail() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("torn");
+			Path file = source(directory, "Torn", "com.example.torn");
+			Path indexFile = directory.resolve("index.bin");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				index.analyse(file);
+			}
+			Files.write(indexFile, new byte[]{42, 0, 0, 0, 1, 2}, StandardOpenOption.APPEND);
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.cached(file).flatMap(SourceAnalysis::packageName)).contains("com.example.torn");
+			}
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.size()).isEqualTo(1);
+				assertThat(index.supersededRecords()).isEqualTo(0);
+			}
+		}
+
+		@Test
+		@DisplayName("A file that is not an index should be replaced on save")
+		void foreignFile() throws IOException
+		{
+			Path directory = sharedTempDir.resolve("foreign");
+			Path file = source(directory, "Foreign", "com.example.foreign");
+			Path indexFile = Files.writeString(directory.resolve("index.bin"), "not an index");
+
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.size()).isEqualTo(0);
+				index.analyse(file);
+			}
+			try (SourceAnalysisIndex index = SourceAnalysisIndex.open(indexFile))
+			{
+				assertThat(index.cached(file).flatMap(SourceAnalysis::packageName)).contains("com.example.foreign");
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Package and type lookups should answer unchanged files from the index")
+	void lookupsUseIndex() throws IOException
+	{
+		Path directory = Files.createDirectories(sharedTempDir.resolve("extractors"));
+		Path file = Files.writeString(directory.resolve("Payment.java"),
+				"package com.aaaaa;\npublic class Payment {}\n");
+		FileTime modified = Files.getLastModifiedTime(file);
+
+		try (SourceAnalysisIndex index = SourceAnalysisIndex.open(directory.resolve("index.bin")))
+		{
+			assertThat(index.packageName(file)).contains("com.aaaaa");
+			// Same size and mtime: the index entry stands and the file is not read again
+			Files.writeString(file, "package com.bbbbb;\npublic class Refund  {}\n");
+			Files.setLastModifiedTime(file, modified);
+
+			assertThat(index.packageName(file)).contains("com.aaaaa");
+			assertThat(index.uniqueTypeName(file)).contains("Payment");
+			assertThatThrownBy(() -> index.packageName(null)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> index.uniqueTypeName(null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	@DisplayName("Null arguments should throw IllegalArgumentException")
+	void nullArguments()
+	{
+		assertThatThrownBy(() -> SourceAnalysisIndex.open(null)).isInstanceOf(IllegalArgumentException.class);
+		try (SourceAnalysisIndex index = SourceAnalysisIndex.open(sharedTempDir.resolve("null-index.bin")))
+		{
+			assertThatThrownBy(() -> index.analyse(null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SourceOutlineCache Tests")
+final class SourceOutlineCacheTest
+{
+	private static String source(final int index)
+	{
+		return "package p" + index + ";\npublic class Type" + index + "\n{\n}\n";
+	}
+
+	@Test
+	@DisplayName("Identical content should be served from the cache")
+	void identicalContent()
+	{
+		SourceOutlineCache cache = SourceOutlineCache.withCapacity(4);
+
+		SourceOutline first = cache.outlineOf(source(1));
+		SourceOutline second = cache.outlineOf(new String(source(1).toCharArray()));
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.hits()).isEqualTo(1L);
+		assertThat(cache.misses()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("Different content should be outlined separately")
+	void differentContent()
+	{
+		SourceOutlineCache cache = SourceOutlineCache.withCapacity(4);
+
+		assertThat(cache.outlineOf(source(1)).packageName()).contains("p1");
+		assertThat(cache.outlineOf(source(2)).packageName()).contains("p2");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.misses()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("Least recently used entries should be evicted beyond capacity")
+	void eviction()
+	{
+		SourceOutlineCache cache = SourceOutlineCache.withCapacity(2);
+
+		SourceOutline first = cache.outlineOf(source(1));
+		cache.outlineOf(source(2));
+		cache.outlineOf(source(1));
+		cache.outlineOf(source(3));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.outlineOf(source(1))).isSameAs(first);
+		assertThat(cache.outlineOf(source(2))).isNotNull();
+		assertThat(cache.misses()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("Concurrent lookups should all see consistent outlines")
+	void concurrentLookups()
+	{
+		SourceOutlineCache cache = SourceOutlineCache.withCapacity(16);
+
+		List<String> names = IntStream.range(0, 1_000)
+									  .parallel()
+									  .mapToObj(i -> cache.outlineOf(source(i % 8)).primaryType().orElseThrow().name())
+									  .toList();
+
+		assertThat(names.stream().allMatch(name -> name.startsWith("Type"))).isTrue();
+		assertThat(cache.size()).isEqualTo(8);
+		assertThat(cache.hits() + cache.misses()).isEqualTo(1_000L);
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		assertThatThrownBy(() -> SourceOutlineCache.withCapacity(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SourceOutlineCache.withDefaultCapacity().outlineOf(null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
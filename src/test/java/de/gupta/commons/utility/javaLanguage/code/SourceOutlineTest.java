@@ -0,0 +1,143 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.Import;
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.TypeKind;
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.TypeOutline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SourceOutline Tests")
+final class SourceOutlineTest
+{
+	private static final String SOURCE = """
+			/* Licence */
+			package com.example.model;
+
+			import java.util.List;
+			import java.util.*;
+			import static java.util.Objects.requireNonNull;
+
+			/** A customer. */
+			@Deprecated(since = "2")
+			public final class Customer
+			{
+				public record Address(String street) {}
+
+				private final List<String> names = List.of("class Fake {}");
+			}
+
+			enum Status { ACTIVE, CLOSED }
+
+			@interface Marker {}
+			""";
+
+	@Nested
+	@DisplayName("Outline Tests")
+	class OutlineTests
+	{
+		@Test
+		@DisplayName("Package should be extracted")
+		void packageName()
+		{
+			assertThat(SourceOutline.of(SOURCE).packageName()).contains("com.example.model");
+		}
+
+		@Test
+		@DisplayName("Imports should be extracted in order with static and on-demand flags")
+		void imports()
+		{
+			List<Import> imports = SourceOutline.of(SOURCE).imports();
+
+			assertThat(imports).containsExactly(new Import("java.util.List", false), new Import("java.util.*", false),
+					new Import("java.util.Objects.requireNonNull", true));
+			assertThat(imports.get(0).simpleName()).isEqualTo("List");
+			assertThat(imports.get(1).isOnDemand()).isTrue();
+			assertThat(imports.get(2).simpleName()).isEqualTo("requireNonNull");
+		}
+
+		@Test
+		@DisplayName("Only top-level types should be listed, with visibility and kind")
+		void types()
+		{
+			List<TypeOutline> types = SourceOutline.of(SOURCE).types();
+
+			assertThat(types.stream().map(TypeOutline::name)).containsExactly("Customer", "Status", "Marker");
+			assertThat(types.stream().map(TypeOutline::kind)).containsExactly(TypeKind.CLASS, TypeKind.ENUM,
+					TypeKind.ANNOTATION);
+			assertThat(types.stream().map(TypeOutline::isPublic)).containsExactly(true, false, false);
+		}
+
+		@Test
+		@DisplayName("Type offsets should span from the first annotation to the closing brace")
+		void typeOffsets()
+		{
+			TypeOutline customer = SourceOutline.of(SOURCE).types().getFirst();
+			String declaration = SOURCE.substring(customer.start(), customer.end());
+
+			assertThat(declaration).startsWith("@Deprecated(since = \"2\")\npublic final class Customer");
+			assertThat(declaration).endsWith("List.of(\"class Fake {}\");\n}");
+		}
+
+		@Test
+		@DisplayName("Primary type should be the unique public type")
+		void primaryType()
+		{
+			assertThat(SourceOutline.of(SOURCE).primaryType().map(TypeOutline::name)).contains("Customer");
+		}
+	}
+
+	@Nested
+	@DisplayName("Primary Type Tests")
+	class PrimaryTypeTests
+	{
+		private static Stream<Arguments> primaryTypeProvider()
+		{
+			return Stream.of(
+					Arguments.of("class Only {}", "Only", "Single package-private type"),
+					Arguments.of("class A {}\npublic interface B {}", "B", "Public type wins"),
+					Arguments.of("public record R(int x) {}", "R", "Record"),
+					Arguments.of("class A {}\nclass B {}", null, "Two package-private types are ambiguous"),
+					Arguments.of("package a;", null, "No types at all")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("primaryTypeProvider")
+		@DisplayName("Test choosing the primary type")
+		void primaryType(String source, String expected, String testDescription)
+		{
+			assertThat(SourceOutline.of(source).primaryType().map(TypeOutline::name).orElse(null))
+					.as(testDescription)
+					.isEqualTo(expected);
+		}
+
+		@Test
+		@DisplayName("Truncated source should still close its last type")
+		void truncatedSource()
+		{
+			String source = "public class Open {\n\tvoid m() {";
+
+			TypeOutline open = SourceOutline.of(source).types().getFirst();
+
+			assertThat(open.name()).isEqualTo("Open");
+			assertThat(open.end()).isEqualTo(source.length());
+		}
+
+		@Test
+		@DisplayName("Null source should throw IllegalArgumentException")
+		void nullSource()
+		{
+			assertThatThrownBy(() -> SourceOutline.of(null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package de.gupta.commons.utility.javaLanguage.code;
+
+import de.gupta.commons.utility.javaLanguage.code.SourceOutline.Import;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SymbolTable Tests")
+final class SymbolTableTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	private static Path write(final Path root, final String packageName, final String name, final String body)
+			throws IOException
+	{
+		Path directory = Files.createDirectories(root.resolve(packageName.replace('.', '/')));
+		return Files.writeString(directory.resolve(name + ".java"), "package " + packageName + ";\n\n" + body);
+	}
+
+	@Nested
+	@DisplayName("Build Tests")
+	class BuildTests
+	{
+		@Test
+		@DisplayName("Top-level types of a tree should be indexed by simple and qualified name")
+		void build() throws IOException
+		{
+			Path root = sharedTempDir.resolve("build");
+			Path customer = write(root, "com.example.model", "Customer", "public class Customer {}\nclass Helper {}\n");
+			write(root, "com.example.other", "Customer", "public record Customer(String name) {}\n");
+
+			SymbolTable table = SymbolTable.of(root);
+
+			assertThat(table.fileCount()).isEqualTo(2);
+			assertThat(table.typeCount()).isEqualTo(3);
+			assertThat(table.fullyQualifiedNames("Customer")).containsExactlyInAnyOrder(
+					"com.example.model.Customer", "com.example.other.Customer");
+			assertThat(table.fileOf("com.example.model.Helper")).contains(customer.toAbsolutePath().normalize());
+			assertThat(table.symbolsOf(customer).orElseThrow().packageName()).contains("com.example.model");
+		}
+
+		@Test
+		@DisplayName("Many files should be indexed concurrently")
+		void manyFiles() throws IOException
+		{
+			Path root = sharedTempDir.resolve("many");
+			for (int i = 0; i < 200; i++)
+			{
+				write(root, "com.example.p" + (i % 10), "Type" + i, "public class Type" + i + " {}\n");
+			}
+
+			SymbolTable table = SymbolTable.of(root, 8);
+
+			assertThat(table.fileCount()).isEqualTo(200);
+			assertThat(IntStream.range(0, 200).allMatch(i ->
+					table.fileOf("com.example.p" + (i % 10) + ".Type" + i).isPresent())).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("Update Tests")
+	class UpdateTests
+	{
+		@Test
+		@DisplayName("Updating a file should replace its previous symbols")
+		void update()
+		{
+			SymbolTable table = SymbolTable.empty();
+			Path file = Path.of("Order.java");
+
+			table.update(file, "package a;\npublic class Order {}\n");
+			table.update(file, "package b;\npublic class Order {}\n");
+
+			assertThat(table.fullyQualifiedNames("Order")).containsExactly("b.Order");
+			assertThat(table.fileOf("a.Order")).isEmpty();
+			assertThat(table.typeCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Removing a file should drop its symbols")
+		void remove()
+		{
+			SymbolTable table = SymbolTable.empty();
+			Path file = Path.of("Invoice.java");
+			table.update(file, "package a;\npublic class Invoice {}\n");
+
+			table.remove(file);
+
+			assertThat(table.fullyQualifiedNames("Invoice")).isEmpty();
+			assertThat(table.fileCount()).isZero();
+			assertThat(table.symbolsOf(file)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("A name declared by two files should stay registered until both are removed")
+		void duplicateDeclarations()
+		{
+			SymbolTable table = SymbolTable.empty();
+			Path first = Path.of("main", "Invoice.java").toAbsolutePath();
+			Path second = Path.of("copy", "Invoice.java").toAbsolutePath();
+			table.update(first, "package a;\npublic class Invoice {}\n");
+			table.update(second, "package a;\npublic class Invoice {}\n");
+
+			assertThat(table.filesOf("a.Invoice")).containsExactlyInAnyOrder(first, second);
+
+			table.remove(second);
+
+			assertThat(table.fileOf("a.Invoice")).contains(first);
+			assertThat(table.fullyQualifiedNames("Invoice")).containsExactly("a.Invoice");
+
+			table.remove(first);
+
+			assertThat(table.fileOf("a.Invoice")).isEmpty();
+			assertThat(table.fullyQualifiedNames("Invoice")).isEmpty();
+			assertThat(table.typeCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Concurrent updates of different files should all be visible")
+		void concurrentUpdates()
+		{
+			SymbolTable table = SymbolTable.empty();
+
+			IntStream.range(0, 500).parallel().forEach(i -> table.update(Path.of("F" + i + ".java"),
+					"package p" + (i % 5) + ";\nclass Shared {}\nclass Own" + i + " {}\n"));
+
+			assertThat(table.fullyQualifiedNames("Shared")).containsExactlyInAnyOrder("p0.Shared", "p1.Shared",
+					"p2.Shared", "p3.Shared", "p4.Shared");
+			assertThat(table.typeCount()).isEqualTo(505);
+		}
+	}
+
+	@Nested
+	@DisplayName("Resolution Tests")
+	class ResolutionTests
+	{
+		private final SymbolTable table = SymbolTable.empty();
+		private final Path service = Path.of("Service.java");
+
+		ResolutionTests()
+		{
+			table.update(Path.of("Customer.java"), "package com.example.model;\npublic class Customer {}\n");
+			table.update(Path.of("Order.java"), "package com.example.model;\npublic class Order {}\n");
+			table.update(Path.of("OtherOrder.java"), "package com.example.legacy;\npublic class Order {}\n");
+			table.update(Path.of("Helper.java"), "package com.example.service;\nclass Helper {}\n");
+			table.update(service, """
+					package com.example.service;
+
+					import com.example.legacy.Order;
+					import com.example.model.*;
+					import static java.util.Objects.requireNonNull;
+
+					public class Service {}
+					""");
+		}
+
+		@Test
+		@DisplayName("Names should resolve through imports and the own package")
+		void resolve()
+		{
+			assertThat(table.resolve(service, "Order")).contains("com.example.legacy.Order");
+			assertThat(table.resolve(service, "Customer")).contains("com.example.model.Customer");
+			assertThat(table.resolve(service, "Helper")).contains("com.example.service.Helper");
+			assertThat(table.resolve(service, "Unknown")).isEmpty();
+			assertThat(table.resolve(Path.of("Missing.java"), "Order")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Imports of a file should be kept")
+		void imports()
+		{
+			assertThat(table.symbolsOf(service).orElseThrow().imports()).containsExactly(
+					new Import("com.example.legacy.Order", false), new Import("com.example.model.*", false),
+					new Import("java.util.Objects.requireNonNull", true));
+		}
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		SymbolTable table = SymbolTable.empty();
+
+		assertThatThrownBy(() -> SymbolTable.of(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SymbolTable.of(sharedTempDir, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> table.update(null, "class A {}")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> table.resolve(Path.of("A.java"), " ")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -1,10 +1,17 @@
 package de.gupta.commons.utility.javaLanguage.comments;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,6 +28,136 @@ final class CommentManagerTest
 		assertThat(result).as(testDescription).isEqualTo(expected);
 	}
 
+	@ParameterizedTest(name = "{2}")
+	@MethodSource("removeBlockCommentsProvider")
+	@DisplayName("Test streaming block comment removal")
+	void removeBlockComments_streaming(String input, String expected, String testDescription) throws IOException
+	{
+		StringWriter whole = new StringWriter();
+		CommentManager.removeBlockComments(new StringReader(input), whole);
+		StringWriter charByChar = new StringWriter();
+		CommentManager.removeBlockComments(new OneCharReader(input), charByChar);
+
+		assertThat(whole.toString()).as(testDescription).isEqualTo(expected);
+		assertThat(charByChar.toString()).as(testDescription + " - one char per read").isEqualTo(expected);
+	}
+
+	@ParameterizedTest(name = "{2}")
+	@MethodSource("removeCommentsProvider")
+	@DisplayName("Test removing block and line comments")
+	void removeComments(String input, String expected, String testDescription) throws IOException
+	{
+		StringWriter streamed = new StringWriter();
+		CommentManager.removeComments(new OneCharReader(input), streamed);
+
+		assertThat(CommentManager.removeComments(input)).as(testDescription).isEqualTo(expected);
+		assertThat(streamed.toString()).as(testDescription + " - streamed").isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("Streaming removal should match the in-memory result for arbitrary input")
+	void streamingMatchesInMemory() throws IOException
+	{
+		Random random = new Random(42);
+		String alphabet = "/*\"'\\\n\r ab1.";
+		for (int i = 0; i < 5_000; i++)
+		{
+			StringBuilder input = new StringBuilder();
+			for (int j = random.nextInt(40); j > 0; j--)
+			{
+				input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String source = input.toString();
+
+			StringWriter blockStreamed = new StringWriter();
+			CommentManager.removeBlockComments(new OneCharReader(source), blockStreamed);
+			StringWriter allStreamed = new StringWriter();
+			CommentManager.removeComments(new OneCharReader(source), allStreamed);
+
+			assertThat(blockStreamed.toString()).as("Block comments in <%s>", source)
+												.isEqualTo(CommentManager.removeBlockComments(source));
+			assertThat(allStreamed.toString()).as("All comments in <%s>", source)
+											  .isEqualTo(CommentManager.removeComments(source));
+		}
+	}
+
+	@Test
+	@DisplayName("Streaming removal should handle sources larger than its buffer")
+	void streamingLargeSource() throws IOException
+	{
+		String unit = "int a = 1; /* block\n comment */ String s = \"/* kept */\"; // line\n";
+		String source = unit.repeat(2_000);
+		StringWriter streamed = new StringWriter();
+
+		CommentManager.removeComments(new StringReader(source), streamed);
+
+		assertThat(streamed.toString()).isEqualTo("int a = 1;  String s = \"/* kept */\"; \n".repeat(2_000));
+	}
+
+	@Test
+	@DisplayName("Parallel removal should match the sequential result for arbitrary input split into tiny chunks")
+	void parallelMatchesSequential()
+	{
+		Random random = new Random(7);
+		String alphabet = "/*\"'\\\n\n ab";
+		for (int i = 0; i < 2_000; i++)
+		{
+			StringBuilder input = new StringBuilder();
+			for (int j = random.nextInt(400); j > 0; j--)
+			{
+				input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String source = input.toString();
+
+			assertThat(ParallelCommentStripper.strip(source, false, 1))
+					.as("Block comments in <%s>", source)
+					.isEqualTo(CommentManager.removeBlockComments(source));
+			assertThat(ParallelCommentStripper.strip(source, true, 1))
+					.as("All comments in <%s>", source)
+					.isEqualTo(CommentManager.removeComments(source));
+		}
+	}
+
+	@Test
+	@DisplayName("Parallel removal should resolve nested comments that close in later chunks")
+	void parallelDeepNesting()
+	{
+		String source = "a /* 1\n/* 2\n/* 3 */ */ still\n*/ b /* x\n/* y */ */ c\n\"\"\"\n*/\n\"\"\" d\n";
+
+		for (int minChunkSize = 1; minChunkSize <= source.length(); minChunkSize++)
+		{
+			assertThat(ParallelCommentStripper.strip(source, true, minChunkSize))
+					.as("Chunks of %d", minChunkSize)
+					.isEqualTo("a  b  c\n\"\"\"\n*/\n\"\"\" d\n");
+		}
+	}
+
+	@Test
+	@DisplayName("Parallel removal should keep a line longer than a chunk in one piece")
+	void parallelLongLine()
+	{
+		String source = "int a; /* x */ String s = \"/* kept */\"; ".repeat(5_000) + "// tail";
+
+		assertThat(ParallelCommentStripper.strip(source, true, 64))
+				.isEqualTo("int a;  String s = \"/* kept */\"; ".repeat(5_000));
+	}
+
+	@Test
+	@DisplayName("Parallel removal should handle comments and text blocks spanning many lines of a large source")
+	void parallelLargeSource()
+	{
+		String unit = "int a = 1; /* block\n/* nested\n*/ still comment\n*/ String s = \"\"\"\n/* kept */\n\"\"\"; " +
+				"// line\n";
+		String source = unit.repeat(40_000);
+
+		assertThat(CommentManager.removeCommentsInParallel(source))
+				.isEqualTo("int a = 1;  String s = \"\"\"\n/* kept */\n\"\"\"; \n".repeat(40_000));
+		assertThat(CommentManager.removeBlockCommentsInParallel(source))
+				.isEqualTo(CommentManager.removeBlockComments(source));
+		assertThat(CommentManager.removeCommentsInParallel("")).isEmpty();
+		assertThat(CommentManager.removeCommentsInParallel(null)).isNull();
+	}
+
 	@ParameterizedTest(name = "{2}")
 	@MethodSource("doesLineStartWithACommentProvider")
 	@DisplayName("Test if line starts with a comment")
@@ -73,6 +210,26 @@ final class CommentManagerTest
 		assertThat(result && negativeResult).as(testDescription + " - both methods cannot be true").isFalse();
 	}
 
+	@Test
+	@DisplayName("Comment detection should match the quote-aware pattern it replaces")
+	void doesLineContainACommentMatchesPattern()
+	{
+		Pattern pattern = Pattern.compile("^(?:\"[^\"]*\"|[^\"])*?(//|/\\*|\\*/)");
+		Random random = new Random(11);
+		String alphabet = "/*\" a";
+		for (int i = 0; i < 5_000; i++)
+		{
+			StringBuilder line = new StringBuilder();
+			for (int j = random.nextInt(12); j > 0; j--)
+			{
+				line.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+
+			assertThat(CommentManager.doesLineContainAComment(line.toString())).as("<%s>", line)
+																			   .isEqualTo(pattern.matcher(line).find());
+		}
+	}
+
 	@ParameterizedTest(name = "{1}")
 	@MethodSource("inverseMethodsTestProvider")
 	@DisplayName("Test that 'not' methods are truly inverse of their counterparts")
@@ -114,10 +271,62 @@ final class CommentManagerTest
 				Arguments.of("code with no comments", "code with no comments",
 						"String without comments should remain unchanged"),
 				Arguments.of("/* Comment 1 */code/* Comment 2 */", "code",
-						"Multiple block comments should all be removed")
+						"Multiple block comments should all be removed"),
+				Arguments.of("char c = '\"'; /* comment */ String s = \"x\";", "char c = '\"';  String s = \"x\";",
+						"Quote inside a char literal should not open a string"),
+				Arguments.of("String s = \"\"\"\n/* kept */ \"quoted\"\n\"\"\";/* removed */",
+						"String s = \"\"\"\n/* kept */ \"quoted\"\n\"\"\";",
+						"Comment markers inside a text block should be kept"),
+				Arguments.of("// see /* here\ncode();", "// see /* here\ncode();",
+						"Block comment opener inside a line comment should be ignored"),
+				Arguments.of("String s = \"\\\\\"; /* comment */", "String s = \"\\\\\"; ",
+						"Escaped backslash at the end of a string should close the string")
+		);
+	}
+
+	private static Stream<Arguments> removeCommentsProvider()
+	{
+		return Stream.of(
+				Arguments.of("code(); // trailing", "code(); ", "Line comment should be removed"),
+				Arguments.of("// first\ncode();\n// last", "\ncode();\n", "Line terminators should be kept"),
+				Arguments.of("a /* block */ b // line\r\nc", "a  b \r\nc", "Block and line comments together"),
+				Arguments.of("/* a // b */c", "c", "Line comment marker inside a block comment"),
+				Arguments.of("// a /* b\nc */", "\nc */", "Block comment marker inside a line comment"),
+				Arguments.of("String s = \"// not a comment\";", "String s = \"// not a comment\";",
+						"Line comment marker inside a string"),
+				Arguments.of("x = a / b;", "x = a / b;", "Division should be kept"),
+				Arguments.of("x = a /", "x = a /", "Trailing slash should be kept"),
+				Arguments.of("", "", "Empty string should remain empty")
 		);
 	}
 
+	private static final class OneCharReader extends Reader
+	{
+		private final String source;
+		private int position;
+
+		private OneCharReader(final String source)
+		{
+			this.source = source;
+		}
+
+		@Override
+		public int read(final char[] buffer, final int offset, final int length)
+		{
+			if (position >= source.length())
+			{
+				return -1;
+			}
+			buffer[offset] = source.charAt(position++);
+			return 1;
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+
 	private static Stream<Arguments> doesLineStartWithACommentProvider()
 	{
 		return Stream.of(
@@ -0,0 +1,159 @@
+package de.gupta.commons.utility.javaLanguage.comments;
+
+import de.gupta.commons.utility.javaLanguage.comments.LineClassifier.LineKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LineClassifier Tests")
+final class LineClassifierTest
+{
+	private static List<LineKind> classifyAll(final String source)
+	{
+		LineClassifier classifier = LineClassifier.create();
+		return source.lines().map(classifier::classify).toList();
+	}
+
+	@ParameterizedTest(name = "{2}")
+	@MethodSource("singleLineProvider")
+	@DisplayName("Lines should be classified on their own")
+	void classify(String line, LineKind expected, String testDescription)
+	{
+		assertThat(LineClassifier.create().classify(line)).as(testDescription).isEqualTo(expected);
+	}
+
+	@Nested
+	@DisplayName("Multi Line Tests")
+	class MultiLineTests
+	{
+		@Test
+		@DisplayName("Lines inside a block comment should be comment lines")
+		void blockComment()
+		{
+			String source = """
+					int a; /* starts
+					   still comment
+
+					 ends */ int b;
+					int c;
+					""";
+
+			assertThat(classifyAll(source)).containsExactly(LineKind.MIXED, LineKind.COMMENT, LineKind.COMMENT,
+					LineKind.MIXED, LineKind.CODE);
+		}
+
+		@Test
+		@DisplayName("Comment markers inside a text block should be code")
+		void textBlock()
+		{
+			String source = "String s = \"\"\"\n// kept\n\n  /* kept */ \\\"\"\"\n\"\"\"; // real\n";
+
+			assertThat(classifyAll(source)).containsExactly(LineKind.CODE, LineKind.CODE, LineKind.CODE,
+					LineKind.CODE, LineKind.MIXED);
+		}
+
+		@Test
+		@DisplayName("Content lines of a text block should be code, blank ones included")
+		void textBlockContent()
+		{
+			LineClassifier classifier = LineClassifier.create();
+
+			assertThat(classifier.classify("String sql = \"\"\"")).isEqualTo(LineKind.CODE);
+			assertThat(classifier.isInTextBlock()).isTrue();
+			assertThat(classifier.classify("    SELECT *")).isEqualTo(LineKind.CODE);
+			assertThat(classifier.classify("")).isEqualTo(LineKind.CODE);
+			assertThat(classifier.classify("    \"\"\";")).isEqualTo(LineKind.CODE);
+			assertThat(classifier.isInTextBlock()).isFalse();
+			assertThat(classifier.classify("")).isEqualTo(LineKind.BLANK);
+		}
+
+		@Test
+		@DisplayName("Block comments should nest only with nested comments, as in CommentManager")
+		void nestedComments()
+		{
+			String source = "/* outer /* inner */\nstill outer */ code();\n";
+
+			LineClassifier java = LineClassifier.create();
+			LineClassifier nested = LineClassifier.withNestedComments();
+
+			assertThat(source.lines().map(java::classify).toList()).containsExactly(LineKind.COMMENT, LineKind.CODE);
+			assertThat(source.lines().map(nested::classify).toList()).containsExactly(LineKind.COMMENT,
+					LineKind.MIXED);
+			assertThat(CommentManager.removeComments(source)).doesNotContain("still outer");
+		}
+
+		@Test
+		@DisplayName("An unterminated string should end at the end of its line")
+		void unterminatedString()
+		{
+			assertThat(classifyAll("String s = \"open\n// comment\n")).containsExactly(LineKind.CODE,
+					LineKind.COMMENT);
+		}
+
+		@Test
+		@DisplayName("Reset should forget an open block comment")
+		void reset()
+		{
+			LineClassifier classifier = LineClassifier.create();
+			classifier.classify("/* open");
+			assertThat(classifier.isInBlockComment()).isTrue();
+
+			classifier.reset();
+
+			assertThat(classifier.isInBlockComment()).isFalse();
+			assertThat(classifier.classify("code();")).isEqualTo(LineKind.CODE);
+		}
+
+		@Test
+		@DisplayName("A range of a larger text should be classified like the extracted line")
+		void range()
+		{
+			String text = "a; /* x\ny */ b;";
+			LineClassifier classifier = LineClassifier.create();
+
+			assertThat(classifier.classify(text, 0, 7)).isEqualTo(LineKind.MIXED);
+			assertThat(classifier.isInBlockComment()).isTrue();
+			assertThat(classifier.classify(text, 8, text.length())).isEqualTo(LineKind.MIXED);
+			assertThat(classifier.isInTextBlock()).isFalse();
+		}
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should throw IllegalArgumentException")
+	void invalidArguments()
+	{
+		LineClassifier classifier = LineClassifier.create();
+
+		assertThatThrownBy(() -> classifier.classify(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> classifier.classify("abc", 2, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> classifier.classify("abc", 0, 4)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static Stream<Arguments> singleLineProvider()
+	{
+		return Stream.of(
+				Arguments.of("", LineKind.BLANK, "Empty line should be blank"),
+				Arguments.of(" \t ", LineKind.BLANK, "Whitespace-only line should be blank"),
+				Arguments.of("int a = 1;", LineKind.CODE, "Plain code"),
+				Arguments.of("   // comment", LineKind.COMMENT, "Indented line comment"),
+				Arguments.of("/* block */", LineKind.COMMENT, "Closed block comment"),
+				Arguments.of("/* a */ /* b */", LineKind.COMMENT, "Several block comments"),
+				Arguments.of("int a; // trailing", LineKind.MIXED, "Code followed by a line comment"),
+				Arguments.of("/* lead */ int a;", LineKind.MIXED, "Block comment followed by code"),
+				Arguments.of("String s = \"// not a comment\";", LineKind.CODE, "Line comment marker inside a string"),
+				Arguments.of("String s = \"\\\"/*\";", LineKind.CODE, "Escaped quote inside a string"),
+				Arguments.of("char c = '\"'; // x", LineKind.MIXED, "Quote inside a char literal"),
+				Arguments.of("x = a / b;", LineKind.CODE, "Division"),
+				Arguments.of("int a;\r", LineKind.CODE, "Trailing carriage return")
+		);
+	}
+}
@@ -2,10 +2,15 @@ package de.gupta.commons.utility.javaLanguage.packages;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -14,6 +19,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("PackageExtractor Tests")
 final class PackageExtractorTest
 {
+	@TempDir
+	static Path sharedTempDir;
+
 	@Nested
 	@DisplayName("extractPackageName Tests")
 	class ExtractPackageNameTests
@@ -63,7 +71,9 @@ final class PackageExtractorTest
 					Arguments.of("package\ncom.example;", "Package with newline before name"),
 					Arguments.of("// package com.example;\n// Another comment", "Multiple commented out packages"),
 					Arguments.of("/* Multi-line\npackage com.example;\ncomment */", "Package in multi-line comment"),
-					Arguments.of("// package com.example;\npackage ;", "Commented package followed by invalid package")
+					Arguments.of("// package com.example;\npackage ;", "Commented package followed by invalid package"),
+					Arguments.of("public class Test {}\npackage com.example;", "Package after the first type declaration"),
+					Arguments.of("class Test\n{\n}\npackage com.example;", "Package after a type body")
 			);
 		}
 
@@ -91,6 +101,62 @@ final class PackageExtractorTest
 		}
 	}
 
+	@Nested
+	@DisplayName("extractPackageName from Path Tests")
+	class ExtractPackageNameFromPathTests
+	{
+		@Test
+		@DisplayName("Package should be read from a source file")
+		void extractPackageName_fromFile() throws IOException
+		{
+			Path file = Files.writeString(sharedTempDir.resolve("Simple.java"),
+					"package com.example.model;\n\npublic class Simple\n{\n}\n");
+
+			assertThat(PackageExtractor.extractPackageName(file)).isEqualTo("com.example.model");
+		}
+
+		@Test
+		@DisplayName("Package after a header longer than the read window should still be found")
+		void extractPackageName_longHeader() throws IOException
+		{
+			String licence = "/*\n" + " * Licence line that is repeated many times.\n".repeat(1000) + " */\n";
+			Path file = Files.writeString(sharedTempDir.resolve("Licenced.java"),
+					licence + "package com.example.licenced;\n\nclass Licenced\n{\n}\n");
+
+			assertThat(PackageExtractor.extractPackageName(file)).isEqualTo("com.example.licenced");
+		}
+
+		@Test
+		@DisplayName("Package should be found in a file much larger than the read window")
+		void extractPackageName_largeFile() throws IOException
+		{
+			String body = "\tprivate int field;\n".repeat(10_000);
+			Path file = Files.writeString(sharedTempDir.resolve("Large.java"),
+					"package com.example.large;\n\nclass Large\n{\n" + body + "}\n");
+
+			assertThat(PackageExtractor.extractPackageName(file)).isEqualTo("com.example.large");
+		}
+
+		@Test
+		@DisplayName("File without a package should throw IllegalArgumentException")
+		void extractPackageName_noPackage() throws IOException
+		{
+			Path file = Files.writeString(sharedTempDir.resolve("NoPackage.java"), "class NoPackage\n{\n}\n");
+
+			assertThatThrownBy(() -> PackageExtractor.extractPackageName(file))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("No package found");
+		}
+
+		@Test
+		@DisplayName("Null path should throw IllegalArgumentException")
+		void extractPackageName_nullPath()
+		{
+			assertThatThrownBy(() -> PackageExtractor.extractPackageName((Path) null))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
 	@Nested
 	@DisplayName("extractBasePackageName Tests")
 	class ExtractBasePackageNameTests
@@ -0,0 +1,147 @@
+package de.gupta.commons.utility.javaLanguage.packages;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PackageIndex Tests")
+final class PackageIndexTest
+{
+	@TempDir
+	static Path sharedTempDir;
+
+	private static Path source(final Path root, final String relativePath, final String packageName)
+			throws IOException
+	{
+		Path file = root.resolve(relativePath);
+		Files.createDirectories(file.getParent());
+		String header = packageName == null ? "" : "package " + packageName + ";\n\n";
+		return Files.writeString(file, header + "class " + file.getFileName().toString().replace(".java", "") +
+				"\n{\n}\n");
+	}
+
+	@Nested
+	@DisplayName("Index Tests")
+	class IndexTests
+	{
+		@Test
+		@DisplayName("Files should be grouped by their declared package")
+		void filesByPackage() throws IOException
+		{
+			Path root = Files.createDirectories(sharedTempDir.resolve("grouped"));
+			Path first = source(root, "com/example/First.java", "com.example");
+			Path second = source(root, "com/example/Second.java", "com.example");
+			Path model = source(root, "com/example/model/Model.java", "com.example.model");
+			Files.writeString(root.resolve("com/example/readme.txt"), "package not.java;");
+
+			PackageIndex index = PackageIndex.of(root);
+
+			assertThat(index.filesByPackage().keySet()).containsExactly("com.example", "com.example.model");
+			assertThat(index.filesIn("com.example")).containsExactly(first.toAbsolutePath().normalize(),
+					second.toAbsolutePath().normalize());
+			assertThat(index.filesIn("com.example.model")).containsExactly(model.toAbsolutePath().normalize());
+			assertThat(index.filesIn("org.unknown")).isEmpty();
+			assertThat(index.mismatches()).isEmpty();
+			assertThat(index.unresolved()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Files in a directory that does not match their package should be reported")
+		void mismatches() throws IOException
+		{
+			Path root = Files.createDirectories(sharedTempDir.resolve("mismatched"));
+			source(root, "com/example/Correct.java", "com.example");
+			Path misplaced = source(root, "com/other/Misplaced.java", "com.example");
+
+			PackageIndex index = PackageIndex.of(root);
+
+			assertThat(index.filesIn("com.example")).hasSize(2);
+			assertThat(index.mismatches()).hasSize(1);
+			PackageIndex.Mismatch mismatch = index.mismatches().getFirst();
+			assertThat(mismatch.file()).isEqualTo(misplaced.toAbsolutePath().normalize());
+			assertThat(mismatch.declaredPackage()).isEqualTo("com.example");
+			assertThat(mismatch.packagePath()).isEqualTo(Path.of("com", "example"));
+			assertThat(mismatch.actualDirectory()).isEqualTo(index.root().resolve("com/other"));
+		}
+
+		@Test
+		@DisplayName("Files below several source roots should be matched against their own source root")
+		void multiModule() throws IOException
+		{
+			Path root = Files.createDirectories(sharedTempDir.resolve("monorepo"));
+			source(root, "api/src/main/java/com/example/api/Api.java", "com.example.api");
+			source(root, "api/src/test/java/com/example/api/ApiTest.java", "com.example.api");
+			source(root, "core/src/main/java/com/example/core/Core.java", "com.example.core");
+			Path misplaced = source(root, "core/src/main/java/com/example/Misplaced.java", "com.example.core");
+
+			PackageIndex index = PackageIndex.of(root);
+
+			assertThat(index.filesIn("com.example.api")).hasSize(2);
+			assertThat(index.filesIn("com.example.core")).hasSize(2);
+			assertThat(index.mismatches()).hasSize(1);
+			assertThat(index.mismatches().getFirst().file()).isEqualTo(misplaced.toAbsolutePath().normalize());
+			assertThat(index.unreadable()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Files without a package declaration should be reported as unresolved")
+		void unresolved() throws IOException
+		{
+			Path root = Files.createDirectories(sharedTempDir.resolve("unresolved"));
+			Path withoutPackage = source(root, "NoPackage.java", null);
+
+			PackageIndex index = PackageIndex.of(root);
+
+			assertThat(index.filesByPackage()).isEmpty();
+			assertThat(index.unresolved()).containsExactly(withoutPackage.toAbsolutePath().normalize());
+		}
+
+		@Test
+		@DisplayName("Bounded and default concurrency should produce the same index")
+		void concurrency() throws IOException
+		{
+			Path root = Files.createDirectories(sharedTempDir.resolve("many"));
+			for (int i = 0; i < 200; i++)
+			{
+				source(root, "pkg" + (i % 10) + "/Type" + i + ".java", "pkg" + (i % 10));
+			}
+
+			PackageIndex sequential = PackageIndex.of(root, 1);
+			PackageIndex parallel = PackageIndex.of(root);
+
+			assertThat(parallel.filesByPackage()).isEqualTo(sequential.filesByPackage());
+			assertThat(parallel.filesByPackage()).hasSize(10);
+			assertThat(parallel.filesByPackage().values().stream().mapToInt(List::size).sum()).isEqualTo(200);
+		}
+	}
+
+	@Nested
+	@DisplayName("Validation Tests")
+	class ValidationTests
+	{
+		@Test
+		@DisplayName("Missing root should throw IllegalArgumentException")
+		void missingRoot()
+		{
+			assertThatThrownBy(() -> PackageIndex.of(sharedTempDir.resolve("does-not-exist")))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> PackageIndex.of(null)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		@DisplayName("Non-positive concurrency should throw IllegalArgumentException")
+		void invalidConcurrency()
+		{
+			assertThatThrownBy(() -> PackageIndex.of(sharedTempDir, 0)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -8,9 +8,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 final class PackageNameValidatorTest
 {
@@ -311,4 +315,107 @@ final class PackageNameValidatorTest
 			);
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("Package names with reserved words")
+	class PackageNamesWithReservedWords
+	{
+		@ParameterizedTest(name = "{0} contains a reserved word and cannot be compiled")
+		@MethodSource("packageNamesWithReservedWordsProvider")
+		void shouldRejectPackageNamesWithReservedWords(String packageName)
+		{
+			assertThat(PackageNameValidator.isCompilableJavaPackageName(packageName))
+					.as("Package name '%s' with a reserved word segment should not be compilable", packageName)
+					.isFalse();
+			assertThat(PackageNameValidator.isValidJavaPackageName(packageName))
+					.as("Package name '%s' should still be valid", packageName)
+					.isTrue();
+		}
+
+		@ParameterizedTest(name = "{0} only resembles a reserved word and can be compiled")
+		@MethodSource("packageNamesResemblingReservedWordsProvider")
+		void shouldAcceptPackageNamesResemblingReservedWords(String packageName)
+		{
+			assertThat(PackageNameValidator.isCompilableJavaPackageName(packageName))
+					.as("Package name '%s' should be compilable", packageName)
+					.isTrue();
+		}
+
+		@Test
+		@DisplayName("Invalid names should not be compilable either")
+		void shouldRejectInvalidNames()
+		{
+			assertThat(PackageNameValidator.isCompilableJavaPackageName("com..example")).isFalse();
+			assertThat(PackageNameValidator.isCompilableJavaPackageName(null)).isFalse();
+		}
+
+		private static Stream<Arguments> packageNamesWithReservedWordsProvider()
+		{
+			return Stream.of(
+					Arguments.of("class"),
+					Arguments.of("com.example.new"),
+					Arguments.of("com.int.example"),
+					Arguments.of("org.true"),
+					Arguments.of("com.example.synchronized")
+			);
+		}
+
+		private static Stream<Arguments> packageNamesResemblingReservedWordsProvider()
+		{
+			return Stream.of(
+					Arguments.of("com.example.classes"),
+					Arguments.of("com.integer"),
+					Arguments.of("com.example.Class"),
+					Arguments.of("record.module"),
+					Arguments.of("com.example.news")
+			);
+		}
+	}
+
+	@Nested
+	@DisplayName("Bulk validation")
+	class BulkValidation
+	{
+		@Test
+		@DisplayName("Each name should be reported at its position")
+		void shouldReportEachNameAtItsPosition()
+		{
+			List<String> packageNames = Arrays.asList("com.example", "com..example", null, "a.b.c", "com.example_");
+
+			BitSet valid = PackageNameValidator.validateAll(packageNames);
+
+			assertThat(valid.stream().boxed().toList()).containsExactly(0, 3);
+			assertThat(PackageNameValidator.findInvalidPackageNames(packageNames))
+					.containsExactly("com..example", null, "com.example_");
+		}
+
+		@Test
+		@DisplayName("Reserved words should be rejected only when asked for")
+		void shouldRejectReservedWordsWhenAsked()
+		{
+			List<String> packageNames = List.of("com.example", "com.example.new", "int.example", "com.example.news");
+
+			assertThat(PackageNameValidator.validateAll(packageNames).stream().boxed().toList())
+					.containsExactly(0, 1, 2, 3);
+			assertThat(PackageNameValidator.validateAll(packageNames, true).stream().boxed().toList())
+					.containsExactly(0, 3);
+			assertThat(PackageNameValidator.findInvalidPackageNames(packageNames)).isEmpty();
+			assertThat(PackageNameValidator.findInvalidPackageNames(packageNames, true))
+					.containsExactly("com.example.new", "int.example");
+		}
+
+		@Test
+		@DisplayName("Null collections should throw IllegalArgumentException")
+		void shouldRejectNullCollections()
+		{
+			assertThatThrownBy(() -> PackageNameValidator.validateAll(null))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> PackageNameValidator.findInvalidPackageNames(null))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> PackageNameValidator.validateAll(null, true))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> PackageNameValidator.findInvalidPackageNames(null, true))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -145,4 +148,89 @@ class PackagePathManagerTest
 					Arguments.of("a_1.b_2.c_3", "a_1" + PATH_SEPARATOR + "b_2" + PATH_SEPARATOR + "c_3"));
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("Memoised Mappings")
+	class MemoisedMappings
+	{
+		@Test
+		@DisplayName("should return the remembered path for a repeated package")
+		void shouldReturnRememberedPath()
+		{
+			String first = PackagePathManager.packagePath("com.example.memo");
+
+			assertThat(PackagePathManager.packagePath(new String("com.example.memo"))).isEqualTo(first);
+		}
+
+		@Test
+		@DisplayName("should give consistent paths under concurrent use")
+		void shouldGiveConsistentPathsConcurrently()
+		{
+			List<String> paths = IntStream.range(0, 10_000)
+										   .parallel()
+										   .mapToObj(i -> PackagePathManager.packagePath("com.concurrent.p" + (i % 50)))
+										   .toList();
+
+			assertThat(paths.stream().allMatch(path -> path.startsWith("com" + PATH_SEPARATOR + "concurrent"))).isTrue();
+		}
+
+		@Test
+		@DisplayName("should resolve the package directory below a source root")
+		void shouldResolvePackageDirectory()
+		{
+			Path root = Path.of("src", "main", "java");
+
+			assertThat(PackagePathManager.packageDirectory(root, "com.example"))
+					.isEqualTo(root.resolve("com").resolve("example"));
+			assertThatThrownBy(() -> PackagePathManager.packageDirectory(null, "com.example"))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Reverse Lookup")
+	class ReverseLookup
+	{
+		private final Path root = Path.of("src", "main", "java");
+
+		@Test
+		@DisplayName("should map a directory below the source root to its package")
+		void shouldMapDirectoryToPackage()
+		{
+			assertThat(PackagePathManager.packageName(root, root.resolve("com/example/model")))
+					.contains("com.example.model");
+			assertThat(PackagePathManager.packageName(root.toAbsolutePath(), root.resolve("com/example/model")))
+					.contains("com.example.model");
+			assertThat(PackagePathManager.packageName(root, root.resolve("com/./example/../other")))
+					.contains("com.other");
+		}
+
+		@Test
+		@DisplayName("should be empty for the root, outside directories and invalid names")
+		void shouldBeEmptyForNonPackageDirectories()
+		{
+			assertThat(PackagePathManager.packageName(root, root)).isEmpty();
+			assertThat(PackagePathManager.packageName(root, Path.of("src", "test", "java", "com"))).isEmpty();
+			assertThat(PackagePathManager.packageName(root, root.resolve("com/my-module"))).isEmpty();
+			assertThat(PackagePathManager.packageName(root, root.resolve("com/1st"))).isEmpty();
+		}
+
+		@Test
+		@DisplayName("should be the inverse of the package directory")
+		void shouldInvertPackageDirectory()
+		{
+			assertThat(PackagePathManager.packageName(root, PackagePathManager.packageDirectory(root, "a.b_c.d1")))
+					.contains("a.b_c.d1");
+		}
+
+		@Test
+		@DisplayName("should reject null arguments")
+		void shouldRejectNullArguments()
+		{
+			assertThatThrownBy(() -> PackagePathManager.packageName(null, root))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> PackagePathManager.packageName(root, null))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
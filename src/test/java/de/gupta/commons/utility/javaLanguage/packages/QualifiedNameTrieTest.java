@@ -0,0 +1,148 @@
+package de.gupta.commons.utility.javaLanguage.packages;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QualifiedNameTrie Tests")
+final class QualifiedNameTrieTest
+{
+	private static final List<String> NAMES = List.of(
+			"de.gupta.commons.utility.string",
+			"de.gupta.commons.utility.collection",
+			"de.gupta.commons.utility.javaLanguage.packages",
+			"de.gupta.commons.utility.javaLanguage.comments",
+			"de.gupta.aletheia.functional",
+			"de.guptax.other",
+			"com.example",
+			"com.example.model"
+	);
+
+	@Nested
+	@DisplayName("Prefix Query Tests")
+	class PrefixQueryTests
+	{
+		private static Stream<Arguments> prefixProvider()
+		{
+			return Stream.of(
+					Arguments.of("de.gupta.", List.of("de.gupta.aletheia.functional",
+									"de.gupta.commons.utility.collection",
+									"de.gupta.commons.utility.javaLanguage.comments",
+									"de.gupta.commons.utility.javaLanguage.packages",
+									"de.gupta.commons.utility.string"),
+							"Prefix with trailing period should match whole segments only"),
+					Arguments.of("de.gupta", List.of("de.gupta.aletheia.functional",
+									"de.gupta.commons.utility.collection",
+									"de.gupta.commons.utility.javaLanguage.comments",
+									"de.gupta.commons.utility.javaLanguage.packages",
+									"de.gupta.commons.utility.string"),
+							"Prefix without trailing period should not match de.guptax"),
+					Arguments.of("de.gupta.commons.utility.javaLanguage",
+							List.of("de.gupta.commons.utility.javaLanguage.comments",
+									"de.gupta.commons.utility.javaLanguage.packages"),
+							"Prefix ending in the middle of a compressed edge"),
+					Arguments.of("com.example", List.of("com.example", "com.example.model"),
+							"Prefix that is itself a stored name"),
+					Arguments.of("org", List.of(), "Unknown prefix should match nothing"),
+					Arguments.of("de.gup", List.of(), "Partial segment should match nothing")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("prefixProvider")
+		@DisplayName("Test enumerating and counting names with a prefix")
+		void withPrefix(String prefix, List<String> expected, String testDescription)
+		{
+			QualifiedNameTrie trie = QualifiedNameTrie.of(NAMES);
+
+			assertThat(trie.withPrefix(prefix)).as(testDescription).containsExactlyElementsOf(expected);
+			assertThat(trie.countWithPrefix(prefix)).as(testDescription + " - count").isEqualTo(expected.size());
+		}
+
+		@Test
+		@DisplayName("Empty prefix should enumerate every name")
+		void withPrefix_empty()
+		{
+			QualifiedNameTrie trie = QualifiedNameTrie.of(NAMES);
+
+			assertThat(trie.withPrefix("")).containsExactlyInAnyOrderElementsOf(NAMES);
+			assertThat(trie.countWithPrefix("")).isEqualTo(NAMES.size());
+		}
+	}
+
+	@Nested
+	@DisplayName("longestPrefixOf Tests")
+	class LongestPrefixOfTests
+	{
+		private static Stream<Arguments> longestPrefixProvider()
+		{
+			return Stream.of(
+					Arguments.of("com.example.model.Person", Optional.of("com.example.model"),
+							"Class name inside a nested package"),
+					Arguments.of("com.example.service.Service", Optional.of("com.example"),
+							"Class name inside an unknown sub-package"),
+					Arguments.of("de.gupta.commons.utility.string.TextTemplate",
+							Optional.of("de.gupta.commons.utility.string"), "Deep class name"),
+					Arguments.of("de.gupta.commons.Other", Optional.empty(),
+							"Only intermediate segments match"),
+					Arguments.of("com.example", Optional.of("com.example"), "Exact stored name"),
+					Arguments.of("org.example.Type", Optional.empty(), "No stored name is a prefix")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("longestPrefixProvider")
+		@DisplayName("Test finding the longest stored prefix of a name")
+		void longestPrefixOf(String name, Optional<String> expected, String testDescription)
+		{
+			QualifiedNameTrie trie = QualifiedNameTrie.of(NAMES);
+
+			assertThat(trie.longestPrefixOf(name)).as(testDescription).isEqualTo(expected);
+		}
+	}
+
+	@Nested
+	@DisplayName("Insertion Tests")
+	class InsertionTests
+	{
+		@Test
+		@DisplayName("Adding names should split shared edges and ignore duplicates")
+		void add()
+		{
+			QualifiedNameTrie trie = QualifiedNameTrie.empty();
+
+			assertThat(trie.add("a.b.c.d")).isTrue();
+			assertThat(trie.add("a.b")).isTrue();
+			assertThat(trie.add("a.b.x")).isTrue();
+			assertThat(trie.add("a.b")).isFalse();
+
+			assertThat(trie.size()).isEqualTo(3);
+			assertThat(trie.contains("a.b")).isTrue();
+			assertThat(trie.contains("a.b.c")).isFalse();
+			assertThat(trie.contains("a")).isFalse();
+			assertThat(trie.withPrefix("a")).containsExactly("a.b", "a.b.c.d", "a.b.x");
+		}
+
+		@Test
+		@DisplayName("Invalid names should throw IllegalArgumentException")
+		void add_invalidName()
+		{
+			QualifiedNameTrie trie = QualifiedNameTrie.empty();
+
+			assertThatThrownBy(() -> trie.add(null)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> trie.add("")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> trie.add("a..b")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> trie.add("a.b.")).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package de.gupta.commons.utility.string;
+
+import de.gupta.commons.utility.string.CharacterClassUtility.CharacterClass;
+import de.gupta.commons.utility.string.CharacterClassUtility.CharacterProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CharacterClassUtility Tests")
+final class CharacterClassUtilityTest
+{
+	@Test
+	@DisplayName("Classification should agree with java.lang.Character for every char")
+	void classificationMatchesCharacter()
+	{
+		List<String> mismatches = new ArrayList<>();
+		for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++)
+		{
+			char c = (char) i;
+			if (CharacterClassUtility.isUpperCase(c) != Character.isUpperCase(c)
+					|| CharacterClassUtility.isLowerCase(c) != Character.isLowerCase(c)
+					|| CharacterClassUtility.isLetter(c) != Character.isLetter(c)
+					|| CharacterClassUtility.isDigit(c) != Character.isDigit(c)
+					|| CharacterClassUtility.isWhitespace(c) != Character.isWhitespace(c))
+			{
+				mismatches.add(String.format("U+%04X", i));
+			}
+		}
+
+		assertThat(mismatches).as("Chars classified differently from java.lang.Character").isEmpty();
+	}
+
+	private static Stream<Arguments> profileProvider()
+	{
+		return Stream.of(
+				Arguments.of("MyClass", CharacterClass.LETTER, true, true, "All letters"),
+				Arguments.of("My1Class", CharacterClass.LETTER, true, false, "Letters with a digit"),
+				Arguments.of("My1Class", CharacterClass.DIGIT, true, false, "Single digit among letters"),
+				Arguments.of("ABC", CharacterClass.LOWERCASE, false, false, "No lowercase letters"),
+				Arguments.of("Ñoño", CharacterClass.ASCII, true, false, "Mixed ASCII and Latin-1"),
+				Arguments.of("こんにちは", CharacterClass.LETTER, true, true, "Letters outside Latin-1"),
+				Arguments.of("a\tb", CharacterClass.WHITESPACE, true, false, "Embedded tab"),
+				Arguments.of("", CharacterClass.LETTER, false, false, "Empty text has no classes")
+		);
+	}
+
+	@ParameterizedTest(name = "{4}")
+	@MethodSource("profileProvider")
+	@DisplayName("Test single-pass character profiles")
+	void profile(String text, CharacterClass characterClass, boolean expectedAny, boolean expectedAll,
+				 String testDescription)
+	{
+		CharacterProfile profile = CharacterClassUtility.profile(text);
+
+		assertThat(profile.any(characterClass)).as(testDescription + " - any").isEqualTo(expectedAny);
+		assertThat(profile.all(characterClass)).as(testDescription + " - all").isEqualTo(expectedAll);
+		assertThat(profile.length()).as(testDescription + " - length").isEqualTo(text.length());
+	}
+
+	@Test
+	@DisplayName("Null text should throw IllegalArgumentException")
+	void profile_nullText()
+	{
+		assertThatThrownBy(() -> CharacterClassUtility.profile(null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
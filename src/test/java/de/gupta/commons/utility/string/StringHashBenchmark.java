@@ -0,0 +1,94 @@
+package de.gupta.commons.utility.string;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+// Run manually: compares StringHashUtility with String.hashCode and MessageDigest over identical inputs
+final class StringHashBenchmark
+{
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 10;
+
+	public static void main(final String[] args) throws NoSuchAlgorithmException
+	{
+		final MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+		final MessageDigest md5 = MessageDigest.getInstance("MD5");
+
+		for (final int length : new int[]{16, 256, 4096, 1 << 20})
+		{
+			final String[] inputs = inputs(length, Math.max(1, (1 << 24) / length));
+			System.out.printf("%n%d chars x %d strings%n", length, inputs.length);
+
+			measure("StringHashUtility.hash64(String)", inputs, StringHashUtility::hash64);
+			measure("StringHashUtility.hash64(byte[] UTF-8)", inputs,
+					s -> StringHashUtility.hash64(s.getBytes(StandardCharsets.UTF_8)));
+			// Strings cache their hash code, so a fresh copy is hashed every time to keep the comparison fair
+			measure("new String(s).hashCode()", inputs, s -> new String(s.toCharArray()).hashCode());
+			measure("MessageDigest MD5", inputs, s -> digest(md5, s));
+			measure("MessageDigest SHA-256", inputs, s -> digest(sha256, s));
+		}
+	}
+
+	private static void measure(final String name, final String[] inputs, final ToLongFunction<String> hash)
+	{
+		long sink = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++)
+		{
+			sink += run(inputs, hash);
+		}
+
+		long chars = 0;
+		final long start = System.nanoTime();
+		for (int round = 0; round < MEASURED_ROUNDS; round++)
+		{
+			sink += run(inputs, hash);
+			for (final String input : inputs)
+			{
+				chars += input.length();
+			}
+		}
+		final long elapsed = System.nanoTime() - start;
+
+		System.out.printf("  %-42s %10.1f MB/s  (sink %d)%n", name,
+				(chars * Character.BYTES) / (elapsed / 1e9) / (1 << 20), sink & 0xF);
+	}
+
+	private static long run(final String[] inputs, final ToLongFunction<String> hash)
+	{
+		long result = 0;
+		for (final String input : inputs)
+		{
+			result ^= hash.applyAsLong(input);
+		}
+		return result;
+	}
+
+	private static long digest(final MessageDigest digest, final String input)
+	{
+		final byte[] result = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+		return result[0];
+	}
+
+	private static String[] inputs(final int length, final int count)
+	{
+		final Random random = new Random(length);
+		final String[] inputs = new String[count];
+		final char[] chars = new char[length];
+		for (int i = 0; i < count; i++)
+		{
+			for (int j = 0; j < length; j++)
+			{
+				chars[j] = (char) ('a' + random.nextInt(26));
+			}
+			inputs[i] = new String(chars);
+		}
+		return inputs;
+	}
+
+	private StringHashBenchmark()
+	{
+	}
+}
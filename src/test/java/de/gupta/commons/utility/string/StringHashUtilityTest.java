@@ -0,0 +1,171 @@
+package de.gupta.commons.utility.string;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StringHashUtility Tests")
+final class StringHashUtilityTest
+{
+	private static final String SAMPLE = "package de.gupta.commons.utility.string;\n\npublic final class Sample\n{\n}\n";
+
+	@Nested
+	@DisplayName("Reference Value Tests")
+	class ReferenceValueTests
+	{
+		private static Stream<Arguments> referenceProvider()
+		{
+			return Stream.of(
+					Arguments.of("", 0xEF46DB3751D8E999L, "Empty input"),
+					Arguments.of("abc", 0x44BC2CF5AD770999L, "Short ASCII input")
+			);
+		}
+
+		@ParameterizedTest(name = "{2}")
+		@MethodSource("referenceProvider")
+		@DisplayName("Byte hashes should match published xxHash64 values")
+		void hash64_bytes(String input, long expected, String testDescription)
+		{
+			byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+
+			assertThat(StringHashUtility.hash64(bytes)).as(testDescription).isEqualTo(expected);
+			assertThat(StringHashUtility.hash64(ByteBuffer.wrap(bytes))).as(testDescription + " - heap buffer")
+																		 .isEqualTo(expected);
+		}
+	}
+
+	@Nested
+	@DisplayName("Character Hashing Tests")
+	class CharacterHashingTests
+	{
+		private static Stream<Arguments> textProvider()
+		{
+			return Stream.of(
+					Arguments.of("", "Empty string"),
+					Arguments.of("a", "Single character"),
+					Arguments.of("PackageExtractor", "Exactly one stripe"),
+					Arguments.of(SAMPLE, "Several stripes with a tail"),
+					Arguments.of("こんにちは世界 Grüße 😀", "Non-ASCII and surrogate pairs")
+			);
+		}
+
+		@ParameterizedTest(name = "{1}")
+		@MethodSource("textProvider")
+		@DisplayName("Characters should hash like their UTF-16LE bytes")
+		void hash64_matchesUtf16LittleEndianBytes(String text, String testDescription)
+		{
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_16LE);
+
+			assertThat(StringHashUtility.hash64(text)).as(testDescription)
+													  .isEqualTo(StringHashUtility.hash64(bytes));
+		}
+
+		@Test
+		@DisplayName("Slices should hash like the equivalent substring")
+		void hash64_slice()
+		{
+			long slice = StringHashUtility.hash64(SAMPLE, 8, 40, StringHashUtility.DEFAULT_SEED);
+
+			assertThat(slice).isEqualTo(StringHashUtility.hash64(SAMPLE.substring(8, 40)));
+		}
+
+		@Test
+		@DisplayName("Different seeds should give different hashes")
+		void hash64_seed()
+		{
+			assertThat(StringHashUtility.hash64(SAMPLE, 0, SAMPLE.length(), 1L))
+					.isNotEqualTo(StringHashUtility.hash64(SAMPLE));
+		}
+	}
+
+	@Nested
+	@DisplayName("Streaming Tests")
+	class StreamingTests
+	{
+		@Test
+		@DisplayName("Chunked updates should equal a one-shot hash")
+		void update_chunked()
+		{
+			byte[] bytes = SAMPLE.repeat(20).getBytes(StandardCharsets.UTF_8);
+			StringHashUtility.Hasher hasher = StringHashUtility.newHasher();
+
+			for (int offset = 0; offset < bytes.length; offset += 7)
+			{
+				hasher.update(bytes, offset, Math.min(7, bytes.length - offset));
+			}
+
+			assertThat(hasher.digest()).isEqualTo(StringHashUtility.hash64(bytes));
+		}
+
+		@Test
+		@DisplayName("Mixed character and byte updates should equal hashing the concatenated bytes")
+		void update_mixed()
+		{
+			byte[] prefix = {1, 2, 3};
+			byte[] text = SAMPLE.getBytes(StandardCharsets.UTF_16LE);
+			byte[] combined = new byte[prefix.length + text.length];
+			System.arraycopy(prefix, 0, combined, 0, prefix.length);
+			System.arraycopy(text, 0, combined, prefix.length, text.length);
+
+			long hash = StringHashUtility.newHasher().update(prefix).update(SAMPLE).digest();
+
+			assertThat(hash).isEqualTo(StringHashUtility.hash64(combined));
+		}
+
+		@Test
+		@DisplayName("Direct buffers should hash like heap arrays and be fully consumed by the hasher")
+		void update_directBuffer()
+		{
+			byte[] bytes = SAMPLE.getBytes(StandardCharsets.UTF_8);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+			assertThat(StringHashUtility.newHasher().update(direct).digest())
+					.isEqualTo(StringHashUtility.hash64(bytes));
+			assertThat(direct.hasRemaining()).isFalse();
+		}
+
+		@Test
+		@DisplayName("The one-shot hash should leave the position of the buffer alone")
+		void hash64_bufferPosition()
+		{
+			byte[] bytes = SAMPLE.getBytes(StandardCharsets.UTF_8);
+			ByteBuffer heap = ByteBuffer.wrap(bytes).position(3);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+			assertThat(StringHashUtility.hash64(heap))
+					.isEqualTo(StringHashUtility.newHasher().update(bytes, 3, bytes.length - 3).digest());
+			assertThat(StringHashUtility.hash64(direct)).isEqualTo(StringHashUtility.hash64(bytes));
+			assertThat(heap.position()).isEqualTo(3);
+			assertThat(direct.position()).isZero();
+		}
+
+		@Test
+		@DisplayName("Reset should start a fresh hash")
+		void reset()
+		{
+			StringHashUtility.Hasher hasher = StringHashUtility.newHasher().update("discarded");
+
+			assertThat(hasher.reset().update(SAMPLE).digest()).isEqualTo(StringHashUtility.hash64(SAMPLE));
+		}
+	}
+
+	@Test
+	@DisplayName("Invalid arguments should be rejected")
+	void invalidArguments()
+	{
+		assertThatThrownBy(() -> StringHashUtility.hash64((CharSequence) null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StringHashUtility.hash64("abc", 2, 1, 0L))
+				.isInstanceOf(IndexOutOfBoundsException.class);
+	}
+}
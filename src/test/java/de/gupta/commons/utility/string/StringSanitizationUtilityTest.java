@@ -1,6 +1,8 @@
 package de.gupta.commons.utility.string;
 
+import de.gupta.commons.utility.string.StringSanitizationUtility.NormalizationOption;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -183,4 +185,64 @@ final class StringSanitizationUtilityTest
 				Arguments.of("\u0000", false, "Single NUL char becomes empty after trim() => not trimmed")
 		);
 	}
-}
\ No newline at end of file
+
+	@ParameterizedTest(name = "{2}")
+	@MethodSource("normalizeWhitespaceProvider")
+	@DisplayName("Test normalizeWhitespace method")
+	void normalizeWhitespace(String input, String expected, String testDescription)
+	{
+		String result = StringSanitizationUtility.normalizeWhitespace(input);
+		assertThat(result).as(testDescription).isEqualTo(expected);
+	}
+
+	@ParameterizedTest(name = "{3}")
+	@MethodSource("normalizeProvider")
+	@DisplayName("Test normalize method with individual options")
+	void normalize(String input, NormalizationOption[] options, String expected, String testDescription)
+	{
+		String result = StringSanitizationUtility.normalize(input, options);
+		assertThat(result).as(testDescription).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("Unchanged input should be returned as the same instance")
+	void normalize_unchangedInputReturnsSameInstance()
+	{
+		String input = "already normalized text";
+		assertThat(StringSanitizationUtility.normalizeWhitespace(input)).isSameAs(input);
+		assertThat(StringSanitizationUtility.normalize(input, NormalizationOption.values())).isSameAs(input);
+	}
+
+	private static Stream<Arguments> normalizeWhitespaceProvider()
+	{
+		return Stream.of(
+				Arguments.of(null, null, "Null input should return null"),
+				Arguments.of("", "", "Empty string should remain empty"),
+				Arguments.of("   ", "", "Whitespace-only string should become empty"),
+				Arguments.of("  hello   world  ", "hello world", "Runs should collapse and ends should be trimmed"),
+				Arguments.of("a\t\tb\nc", "a b c", "Tabs and newlines should collapse to a single space"),
+				Arguments.of("a \u0000 b", "a b", "Control characters inside a run should be removed"),
+				Arguments.of("a\u0007b", "ab", "Control characters between letters should be removed"),
+				Arguments.of("a\u2003b", "a b", "Unicode whitespace should collapse to a space"),
+				Arguments.of("a\u00A0b", "a\u00A0b", "Non-breaking space is not whitespace and is kept"),
+				Arguments.of("Hello World", "Hello World", "Case should be preserved by default"),
+				Arguments.of("trailing ", "trailing", "Trailing space should be trimmed")
+		);
+	}
+
+	private static Stream<Arguments> normalizeProvider()
+	{
+		return Stream.of(
+				Arguments.of("  a  b  ", new NormalizationOption[]{NormalizationOption.TRIM}, "a  b",
+						"Trim only keeps inner runs"),
+				Arguments.of("  a  b  ", new NormalizationOption[]{NormalizationOption.COLLAPSE_WHITESPACE}, " a b ",
+						"Collapse only keeps single leading and trailing spaces"),
+				Arguments.of("a\u0000 \tb", new NormalizationOption[]{NormalizationOption.STRIP_CONTROL_CHARACTERS},
+						"a \tb", "Strip only removes non-whitespace controls"),
+				Arguments.of("Hello WORLD", new NormalizationOption[]{NormalizationOption.LOWER_CASE}, "hello world",
+						"Lower case only"),
+				Arguments.of(" MixedCase\tText ", NormalizationOption.values(), "mixedcase text", "All options together"),
+				Arguments.of("  a  ", new NormalizationOption[]{}, "  a  ", "No options leave input unchanged")
+		);
+	}
+}
@@ -2,11 +2,14 @@ package de.gupta.commons.utility.string;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -215,4 +218,127 @@ class StringSearchUtilityTest
             ).map(testCase -> Arguments.of(testCase.input(), testCase.searchString(), testCase.expected(), testCase.description()));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("levenshteinDistance Tests")
+    class LevenshteinDistanceTests
+    {
+        @ParameterizedTest(name = "{3}")
+        @MethodSource("levenshteinDistanceProvider")
+        @DisplayName("Should compute the edit distance between two strings")
+        void levenshteinDistance(String first, String second, int expected, String description)
+        {
+            assertThat(StringSearchUtility.levenshteinDistance(first, second))
+                .as(description)
+                .isEqualTo(expected);
+            assertThat(StringSearchUtility.levenshteinDistance(second, first))
+                .as(description + " - distance is symmetric")
+                .isEqualTo(expected);
+        }
+
+        private static Stream<Arguments> levenshteinDistanceProvider()
+        {
+            return Stream.of(
+                Arguments.of("", "", 0, "Both strings empty"),
+                Arguments.of("", "abc", 3, "One string empty"),
+                Arguments.of("kitten", "sitting", 3, "Classic kitten/sitting example"),
+                Arguments.of("flaw", "lawn", 2, "Deletion and insertion"),
+                Arguments.of("PackageExtractor", "PackageExtractor", 0, "Identical strings"),
+                Arguments.of("PackageExtractor", "PackageExtractr", 1, "Single deletion"),
+                Arguments.of("ClassNameUtility", "ClassNmaeUtility", 2, "Transposition counts as two edits"),
+                Arguments.of("ümlaut", "umlaut", 1, "Non-ASCII substitution"),
+                Arguments.of("a".repeat(64), "a".repeat(63) + "b", 1, "Pattern of exactly 64 characters"),
+                Arguments.of("de.gupta.commons.utility.javaLanguage.packages.PackageNameValidator",
+                    "de.gupta.commons.utility.javaLanguage.package.PackageNameValidators", 2,
+                    "Strings longer than 64 characters")
+            );
+        }
+
+        @Test
+        @DisplayName("Should return empty when distance exceeds the bound")
+        void boundedLevenshteinDistance()
+        {
+            assertThat(StringSearchUtility.boundedLevenshteinDistance("kitten", "sitting", 3))
+                .isEqualTo(OptionalInt.of(3));
+            assertThat(StringSearchUtility.boundedLevenshteinDistance("kitten", "sitting", 2))
+                .isEqualTo(OptionalInt.empty());
+            assertThat(StringSearchUtility.boundedLevenshteinDistance("a", "a".repeat(100), 5))
+                .isEqualTo(OptionalInt.empty());
+        }
+
+        @Test
+        @DisplayName("Should reject null input and negative bounds")
+        void invalidArguments()
+        {
+            assertThatThrownBy(() -> StringSearchUtility.levenshteinDistance(null, "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> StringSearchUtility.boundedLevenshteinDistance("a", "b", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("fuzzySubstringDistance Tests")
+    class FuzzySubstringDistanceTests
+    {
+        @ParameterizedTest(name = "{3}")
+        @MethodSource("fuzzySubstringDistanceProvider")
+        @DisplayName("Should compute the best edit distance of the pattern against any substring")
+        void fuzzySubstringDistance(String text, String pattern, int expected, String description)
+        {
+            assertThat(StringSearchUtility.fuzzySubstringDistance(text, pattern))
+                .as(description)
+                .isEqualTo(expected);
+        }
+
+        private static Stream<Arguments> fuzzySubstringDistanceProvider()
+        {
+            return Stream.of(
+                Arguments.of("anything", "", 0, "Empty pattern matches everywhere"),
+                Arguments.of("", "abc", 3, "Empty text"),
+                Arguments.of("Hello World!", "World", 0, "Exact substring"),
+                Arguments.of("Hello World!", "Wrld", 1, "Substring with one deletion"),
+                Arguments.of("de.gupta.PackageExtracter", "Extractor", 1, "Substring with one substitution"),
+                Arguments.of("abc", "xyz", 3, "No common characters"),
+                Arguments.of("a".repeat(10) + "b".repeat(69) + "a".repeat(10), "b".repeat(70), 1,
+                    "Pattern longer than 64 characters")
+            );
+        }
+
+        @Test
+        @DisplayName("containsFuzzy should respect the maximum distance")
+        void containsFuzzy()
+        {
+            assertThat(StringSearchUtility.containsFuzzy("public clas Model", "class", 1)).isTrue();
+            assertThat(StringSearchUtility.containsFuzzy("public clas Model", "class", 0)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("closestMatches Tests")
+    class ClosestMatchesTests
+    {
+        @Test
+        @DisplayName("Should return candidates within the bound ordered by distance")
+        void closestMatches()
+        {
+            List<String> candidates = List.of("PackageExtractor", "PackagePathManager", "CommentManager",
+                "PackageExtractors", "PackageNameValidator");
+
+            List<StringSearchUtility.Match> result =
+                StringSearchUtility.closestMatches("PackageExtractr", candidates, 2);
+
+            assertThat(result).containsExactly(
+                new StringSearchUtility.Match("PackageExtractor", 1),
+                new StringSearchUtility.Match("PackageExtractors", 2)
+            );
+        }
+
+        @Test
+        @DisplayName("Should return an empty list when nothing is close enough")
+        void closestMatches_noMatch()
+        {
+            assertThat(StringSearchUtility.closestMatches("Xyz", List.of("PackageExtractor"), 2)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package de.gupta.commons.utility.string;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TextTemplate Tests")
+final class TextTemplateTest
+{
+	@Nested
+	@DisplayName("render Tests")
+	class RenderTests
+	{
+		private static Stream<Arguments> renderProvider()
+		{
+			return Stream.of(
+					Arguments.of("Hello ${name}!", Map.of("name", "World"), "Hello World!",
+							"Single placeholder should be replaced"),
+					Arguments.of("${a}${b}", Map.of("a", "x", "b", "y"), "xy",
+							"Adjacent placeholders should be replaced"),
+					Arguments.of("${a}-${a}", Map.of("a", "x"), "x-x",
+							"Repeated placeholder should be replaced every time"),
+					Arguments.of("no placeholders", Map.of(), "no placeholders",
+							"Template without placeholders should render unchanged"),
+					Arguments.of("", Map.of(), "", "Empty template should render empty"),
+					Arguments.of("${ name }", Map.of("name", "trimmed"), "trimmed",
+							"Whitespace inside placeholder should be ignored"),
+					Arguments.of("cost: $$${price}", Map.of("price", "5"), "cost: $5",
+							"Escaped marker should render literally"),
+					Arguments.of("$${literal}", Map.of(), "${literal}",
+							"Escaped placeholder should not be substituted"),
+					Arguments.of("a $ b", Map.of(), "a $ b", "Lone marker should render literally"),
+					Arguments.of("package ${package};\n\npublic class ${name}\n{\n}",
+							Map.of("package", "com.example", "name", "Model"),
+							"package com.example;\n\npublic class Model\n{\n}",
+							"Class body template should be rendered")
+			);
+		}
+
+		@ParameterizedTest(name = "{3}")
+		@MethodSource("renderProvider")
+		@DisplayName("Test rendering templates")
+		void render(String template, Map<String, String> values, String expected, String testDescription)
+		{
+			TextTemplate compiled = TextTemplate.compile(template);
+
+			assertThat(compiled.render(values)).as(testDescription).isEqualTo(expected);
+			assertThat(compiled.sizeHint(values)).as(testDescription + " - size hint is exact")
+												 .isEqualTo(expected.length());
+		}
+
+		@Test
+		@DisplayName("Rendering to a Writer should produce the same output as render")
+		void renderToWriter() throws IOException
+		{
+			TextTemplate compiled = TextTemplate.compile("${greeting}, ${name}.");
+			Map<String, String> values = Map.of("greeting", "Hi", "name", "there");
+			StringWriter writer = new StringWriter();
+
+			compiled.renderTo(writer, values);
+
+			assertThat(writer.toString()).isEqualTo(compiled.render(values));
+		}
+
+		@Test
+		@DisplayName("Placeholder names should be reported in order of first appearance")
+		void placeholderNames()
+		{
+			TextTemplate compiled = TextTemplate.compile("${b} ${a} ${b} ${c}");
+
+			assertThat(compiled.placeholderNames()).containsExactly("b", "a", "c");
+		}
+	}
+
+	@Nested
+	@DisplayName("Error Handling Tests")
+	class ErrorHandlingTests
+	{
+		private static Stream<Arguments> invalidTemplateProvider()
+		{
+			return Stream.of(
+					Arguments.of("Hello ${name", "Unterminated placeholder"),
+					Arguments.of("Hello ${}", "Empty placeholder"),
+					Arguments.of("Hello ${  }", "Blank placeholder")
+			);
+		}
+
+		@ParameterizedTest(name = "{1}")
+		@MethodSource("invalidTemplateProvider")
+		@DisplayName("Test compiling invalid templates")
+		void compile_invalidTemplate_throwsException(String template, String testDescription)
+		{
+			assertThatThrownBy(() -> TextTemplate.compile(template))
+					.as(testDescription)
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		@DisplayName("Null template should throw IllegalArgumentException")
+		void compile_nullTemplate_throwsException()
+		{
+			assertThatThrownBy(() -> TextTemplate.compile(null))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("Template cannot be null");
+		}
+
+		@Test
+		@DisplayName("Missing value should throw IllegalArgumentException")
+		void render_missingValue_throwsException()
+		{
+			TextTemplate compiled = TextTemplate.compile("Hello ${name}");
+
+			assertThatThrownBy(() -> compiled.render(Map.of()))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("name");
+		}
+	}
+}
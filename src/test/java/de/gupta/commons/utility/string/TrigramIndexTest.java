@@ -0,0 +1,116 @@
+package de.gupta.commons.utility.string;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrigramIndex Tests")
+final class TrigramIndexTest
+{
+	private static final List<String> TYPE_NAMES = List.of("PackageExtractor", "PackagePathManager",
+			"PackageNameValidator", "CommentManager", "ClassNameUtility", "ClassWritingUtility",
+			"CodeTypeAnalysisUtility", "TypeDeclaration");
+
+	@Nested
+	@DisplayName("topSimilar Tests")
+	class TopSimilarTests
+	{
+		@Test
+		@DisplayName("Misspelled name should rank the intended name first")
+		void topSimilar_misspelledName()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			List<TrigramIndex.Candidate> result = index.topSimilar("PakageExtractor", 3);
+
+			assertThat(result).hasSize(3);
+			assertThat(result.getFirst().value()).isEqualTo("PackageExtractor");
+		}
+
+		@Test
+		@DisplayName("Exact match should have similarity of one")
+		void topSimilar_exactMatch()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			List<TrigramIndex.Candidate> result = index.topSimilar("CommentManager", 1);
+
+			assertThat(result).containsExactly(new TrigramIndex.Candidate("CommentManager", 1.0));
+		}
+
+		@Test
+		@DisplayName("Lookup should be case-insensitive")
+		void topSimilar_caseInsensitive()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			assertThat(index.topSimilar("commentmanager", 1).getFirst().value()).isEqualTo("CommentManager");
+		}
+
+		@Test
+		@DisplayName("Minimum similarity should filter weak candidates")
+		void topSimilar_minimumSimilarity()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			List<TrigramIndex.Candidate> result = index.topSimilar("ClassNameUtility", 10, 0.5);
+
+			assertThat(result.stream().allMatch(candidate -> candidate.similarity() >= 0.5)).isTrue();
+			assertThat(result.getFirst().value()).isEqualTo("ClassNameUtility");
+		}
+
+		@Test
+		@DisplayName("Query sharing no trigrams should return no candidates")
+		void topSimilar_noOverlap()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			assertThat(index.topSimilar("xyz", 5)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Null query should throw IllegalArgumentException")
+		void topSimilar_nullQuery()
+		{
+			assertThatThrownBy(() -> TrigramIndex.empty().topSimilar(null, 1))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Incremental Update Tests")
+	class IncrementalUpdateTests
+	{
+		@Test
+		@DisplayName("Added values should be found and duplicates ignored")
+		void add()
+		{
+			TrigramIndex index = TrigramIndex.empty();
+
+			assertThat(index.add("PackageExtractor")).isTrue();
+			assertThat(index.add("PackageExtractor")).isFalse();
+			assertThat(index.size()).isEqualTo(1);
+			assertThat(index.topSimilar("PackageExtractor", 1).getFirst().value()).isEqualTo("PackageExtractor");
+		}
+
+		@Test
+		@DisplayName("Removed values should no longer be returned")
+		void remove()
+		{
+			TrigramIndex index = TrigramIndex.of(TYPE_NAMES);
+
+			assertThat(index.remove("PackageExtractor")).isTrue();
+			assertThat(index.remove("PackageExtractor")).isFalse();
+			assertThat(index.contains("PackageExtractor")).isFalse();
+			assertThat(index.size()).isEqualTo(TYPE_NAMES.size() - 1);
+			assertThat(index.topSimilar("PackageExtractor", TYPE_NAMES.size()).stream()
+							.map(TrigramIndex.Candidate::value))
+					.doesNotContain("PackageExtractor");
+		}
+	}
+}